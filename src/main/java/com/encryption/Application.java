@@ -31,7 +31,7 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  */
 @EnableCaching
 @EnableScheduling
-@EntityScan(basePackages = "com.model.entity")
+@EntityScan(basePackages = { "com.model.entity", "com.encryption.entity" })
 @SpringBootApplication
 public class Application {
 
@@ -40,12 +40,13 @@ public class RequestControllerAdvice extends RequestBodyAdviceAdapter {
 	private HttpServletRequest request;
 
 	/**
-	 * Determines that the request should be cached for all the requests
+	 * Determines that the request should be cached for all the requests except raw
+	 * binary bodies, which carry no JSON reference number
 	 */
 	@Override
 	public boolean supports(@NonNull MethodParameter methodParameter, @NonNull Type targetType,
 			@NonNull Class<? extends HttpMessageConverter<?>> converterType) {
-		return true;
+		return !byte[].class.equals(targetType);
 	}
 
 	/**
@@ -2,26 +2,41 @@ package com.encryption.config;
 
 import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Supplier;
 
+import org.apache.kafka.clients.admin.NewTopic;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.http.HttpMethod;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 
 import com.encryption.exception.AppException;
 import com.encryption.services.AuthProvider;
 import com.google.gson.Gson;
 import com.utilities.exceptions.ConfigException;
 import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
 
+import jakarta.servlet.DispatcherType;
 import lombok.AllArgsConstructor;
 
 /**
@@ -94,7 +109,9 @@ public class AppConfig {
 	 * Method to create a {@code @Bean} of {@link SecurityFilterChain} to provide a
 	 * customized implementation of the security and add that to the filter chain
 	 * before the application layer to perform security checks before providing
-	 * access to the resource3s in the system
+	 * access to the resource3s in the system. The key encryption key handshake
+	 * of a channel is open to the user named after the channel and to the
+	 * administrators only, ahead of the other channel end points.
 	 * 
 	 * @param security {@link HttpSecurity} object
 	 * @return {@link SecurityFilterChain} with all the necessary security checks
@@ -104,10 +121,13 @@ public class AppConfig {
 	SecurityFilterChain securityFilterChain(HttpSecurity security) throws AppException {
 		try {
 			return security.csrf(AbstractHttpConfigurer::disable)
-					.authorizeHttpRequests(request -> request
-							.requestMatchers("/v1/users/register", "/v1/channels/register", "/v1/properties/**")
-							.hasAuthority("ADMIN").requestMatchers("/v1/audit/**", "/v1/channels/**", "/v1/users/**")
-							.permitAll().requestMatchers("/**").hasAuthority("SYSTEM").anyRequest().authenticated())
+					.authorizeHttpRequests(request -> request.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+							.requestMatchers("/v1/users/register", "/v1/channels/register",
+									"/v1/channels/register/agreement-key", "/v1/properties/**")
+							.hasAuthority("ADMIN").requestMatchers(HttpMethod.POST, "/v1/channels/{channelId}/kek")
+							.access(AppConfig::channelOwner)
+							.requestMatchers("/v1/audit/**", "/v1/channels/**", "/v1/users/**").permitAll()
+							.requestMatchers("/**").hasAuthority("SYSTEM").anyRequest().authenticated())
 					.httpBasic(Customizer.withDefaults())
 					.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 					.authenticationProvider(provider.authenticationProvider()).build();
@@ -117,6 +137,24 @@ public class AppConfig {
 		}
 	}
 
+	/**
+	 * Method to grant a request on a channel to the user named after the channel
+	 * and to the administrators
+	 * 
+	 * @param authentication {@link Supplier} of the {@link Authentication} of the
+	 *                       request
+	 * @param context        {@link RequestAuthorizationContext} carrying the
+	 *                       channel id of the path
+	 * @return {@link AuthorizationDecision} of the request
+	 */
+	private static AuthorizationDecision channelOwner(Supplier<Authentication> authentication,
+			RequestAuthorizationContext context) {
+		Authentication user = authentication.get();
+		return new AuthorizationDecision(Objects.nonNull(user) && user.isAuthenticated()
+				&& !(user instanceof AnonymousAuthenticationToken)
+				&& (user.getName().equals(context.getVariables().get("channelId")) || user.getAuthorities().stream()
+						.anyMatch(authority -> "ADMIN".equals(authority.getAuthority()))));
+	}
 
 	@Bean
 	Gson g() {
@@ -124,6 +162,110 @@ public class AppConfig {
 				.setPrettyPrinting().create();
 	}
 
+	/**
+	 * Method to create a {@code @Bean} of the bounded {@link ThreadPoolTaskExecutor}
+	 * running the encryption and decryption operations off the request threads.
+	 * The pool is sized with property 'pool.value' and the queue with
+	 * 'pool.queue.capacity'. Once both are full new operations are rejected so the
+	 * caller can answer with {@code 503 Service Unavailable}.
+	 * 
+	 * @return {@link ThreadPoolTaskExecutor} for crypto operations
+	 */
+	@Bean
+	@DependsOn("appPropertiesInit")
+	ThreadPoolTaskExecutor cryptoExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(AppProperties.intProperty("pool.value"));
+		executor.setMaxPoolSize(AppProperties.intProperty("pool.value"));
+		executor.setQueueCapacity(AppProperties.intProperty("pool.queue.capacity"));
+		executor.setThreadNamePrefix("crypto-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+	/**
+	 * Method to create a {@code @Bean} of the bounded {@link ThreadPoolTaskExecutor}
+	 * processing the items of the batch encryption and decryption end points. The
+	 * pool and queue are sized with properties 'batch.pool.size' and
+	 * 'batch.queue.capacity', and once both are full the request thread processes
+	 * the item itself, slowing the caller down instead of failing the item.
+	 * 
+	 * @return {@link ThreadPoolTaskExecutor} for batch items
+	 */
+	@Bean
+	@DependsOn("appPropertiesInit")
+	ThreadPoolTaskExecutor batchExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(AppProperties.intProperty("batch.pool.size"));
+		executor.setMaxPoolSize(AppProperties.intProperty("batch.pool.size"));
+		executor.setQueueCapacity(AppProperties.intProperty("batch.queue.capacity"));
+		executor.setThreadNamePrefix("batch-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+	/**
+	 * Method to create a {@code @Bean} of the bounded {@link ThreadPoolTaskExecutor}
+	 * creating digital signatures in parallel with the encryption of the same
+	 * request. The pool and queue are sized with properties 'sign.pool.size' and
+	 * 'sign.queue.capacity', and once both are full the request thread signs the
+	 * data itself.
+	 * 
+	 * @return {@link ThreadPoolTaskExecutor} for signing
+	 */
+	@Bean
+	@DependsOn("appPropertiesInit")
+	ThreadPoolTaskExecutor signExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(AppProperties.intProperty("sign.pool.size"));
+		executor.setMaxPoolSize(AppProperties.intProperty("sign.pool.size"));
+		executor.setQueueCapacity(AppProperties.intProperty("sign.queue.capacity"));
+		executor.setThreadNamePrefix("sign-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+	/**
+	 * Method to create a {@code @Bean} of the bounded {@link ThreadPoolTaskExecutor}
+	 * sending the channel changes to {@code Kafka} off the request threads. A
+	 * single thread sends the changes in order and the queue is sized with
+	 * property 'channel.events.queue.capacity'. Once it is full new changes are
+	 * rejected and left to the incremental channel sync.
+	 * 
+	 * @return {@link ThreadPoolTaskExecutor} for channel events
+	 */
+	@Bean
+	@DependsOn("appPropertiesInit")
+	@ConditionalOnProperty(name = "config.kafka.enable-kafka", havingValue = "true")
+	ThreadPoolTaskExecutor channelEventExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(AppProperties.intProperty("channel.events.queue.capacity"));
+		executor.setThreadNamePrefix("channel-event-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		return executor;
+	}
+
+	/**
+	 * Method to create a {@code @Bean} of the {@link NewTopic} carrying the channel
+	 * changes, named with property 'channel.events.topic' and created with
+	 * 'channel.events.partitions' partitions when it does not exist yet
+	 * 
+	 * @return {@link NewTopic} of the channel events
+	 */
+	@Bean
+	@DependsOn("appPropertiesInit")
+	@ConditionalOnProperty(name = "config.kafka.enable-kafka", havingValue = "true")
+	NewTopic channelEventsTopic() {
+		return TopicBuilder.name(AppProperties.strProperty("channel.events.topic"))
+				.partitions(AppProperties.intProperty("channel.events.partitions")).build();
+	}
+
 	@Bean
 	HttpClient client(@Value("${config.audit-service.timeout}") Long timeout) {
 		return HttpClient.newBuilder().connectTimeout(Duration.ofMillis(timeout)).build();
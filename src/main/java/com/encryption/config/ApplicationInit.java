@@ -4,18 +4,45 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.security.KeyStore;
+import java.security.InvalidKeyException;
+import java.security.Key;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
-import java.util.ArrayList;
+import java.security.interfaces.RSAPrivateCrtKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.encryption.crypto.CryptoPrimitives;
+import com.encryption.crypto.KeyAgreementCurve;
+import com.encryption.crypto.SignatureAlgorithm;
+import com.encryption.entity.ChannelChange;
+import com.encryption.event.ChannelChangeEvent;
+import com.encryption.event.KeyStoreReloadEvent;
+import com.encryption.exception.AppException;
 import com.encryption.services.ChannelDetailService;
 import com.encryption.utility.CommonUtility;
+import com.encryption.utility.EncryptionUtility;
 import com.model.entity.ChannelDetails;
 import com.utilities.exceptions.ConfigException;
 import com.utilities.log.Log;
@@ -53,26 +80,48 @@ public class ApplicationInit {
 	 * class
 	 * 
 	 * @param channelDetailService {@link ChannelDetailService} interface object
+	 * @param eventPublisher       {@link ApplicationEventPublisher} object
 	 */
-	public ApplicationInit(ChannelDetailService channelDetailService) {
+	public ApplicationInit(ChannelDetailService channelDetailService, ApplicationEventPublisher eventPublisher) {
 		this.channelDetailService = channelDetailService;
+		this.eventPublisher = eventPublisher;
+		this.channelIndex = ChannelIndex.getInstance(this::loadChannel);
 	}
 
 	/**
-	 * Key store object to store in memory
+	 * Immutable {@link KeyRing} of the key store and the keys extracted from it
+	 * once per load, replaced as a whole on every load
 	 */
-	private KeyStore keyStore;
+	private volatile KeyRing keyRing = KeyRing.empty();
 
 	/**
-	 * List of {@link ChannelDetails} object to store in memory
+	 * Bounded {@link ChannelIndex} of the channels and their decoded public keys,
+	 * loaded lazily from the data base
 	 */
-	private List<ChannelDetails> channels = new ArrayList<>();
+	private final ChannelIndex channelIndex;
+
+	/**
+	 * Channel resolvable on the current thread only, kept out of the cache
+	 */
+	private final ThreadLocal<ChannelIndex.Entry> scopedChannel = new ThreadLocal<>();
+
+	/**
+	 * Data base time up to which the channel changes have been applied to the
+	 * cache
+	 */
+	private volatile Instant channelWatermark = Instant.EPOCH;
 
 	/**
 	 * {@link ChannelDetailService} interface parameter
 	 */
 	private ChannelDetailService channelDetailService;
 
+	/**
+	 * {@link ApplicationEventPublisher} to notify the in-memory caches about the
+	 * key store reloads
+	 */
+	private ApplicationEventPublisher eventPublisher;
+
 	/**
 	 * Method to load and cache key store file containing private and public keys
 	 * 
@@ -90,21 +139,304 @@ public class ApplicationInit {
 	}
 
 	/**
-	 * Method to load and cache Channel details from {@link ChannelDetailService}
+	 * Method to extract the keys of the loaded key store into a new
+	 * {@link KeyRing}. The {@code RSA} private key stored under the alias
+	 * mentioned in configurations with property 'keystore.alias' is the current
+	 * key, the {@code RSA} private keys of the other aliases are kept under their
+	 * key id so the envelopes wrapped for them can still be decrypted during a
+	 * rotation. Other aliases whose key cannot be extracted are left out of the
+	 * ring.
+	 * 
+	 * @param keyStore Loaded {@link KeyStore} object
+	 * @return {@link KeyRing} of the key store
+	 */
+	private KeyRing loadKeyRing(KeyStore keyStore) {
+		String alias = AppProperties.strProperty("keystore.alias");
+		PrivateKey privateKey = loadPrivateKey(keyStore, alias);
+		PublicKey publicKey = certificate(keyStore, alias).getPublicKey();
+		String keyId = keyId(publicKey);
+		Map<String, PrivateKey> privateKeys = new HashMap<>();
+		privateKeys.put(keyId, privateKey);
+
+		try {
+			for (String entry : Collections.list(keyStore.aliases())) {
+				Certificate certificate = keyStore.getCertificate(entry);
+				if (alias.equals(entry) || !keyStore.isKeyEntry(entry) || Objects.isNull(certificate)
+						|| !AppProperties.strProperty("rsa.instance").equals(certificate.getPublicKey().getAlgorithm()))
+					continue;
+
+				try {
+					privateKeys.putIfAbsent(keyId(certificate.getPublicKey()), loadPrivateKey(keyStore, entry));
+				} catch (ConfigException e) {
+					Log.warn(this.getClass().getSimpleName(), "loadKeyRing", "alias %s left out of the key ring: %s",
+							entry, e.getMessage());
+				}
+			}
+		} catch (KeyStoreException e) {
+			throw ConfigException.getInstance("exception occurred while listing key store aliases: " + e.getMessage());
+		}
+
+		Log.info(this.getClass().getSimpleName(), "loadKeyRing", "%s RSA private key(s) loaded, current key id %s",
+				privateKeys.size(), keyId);
+		return KeyRing.getInstance(keyStore, keyId, publicKey, privateKeys, loadSigningKeys(keyStore, privateKey),
+				loadAgreementKeys(keyStore));
+	}
+
+	/**
+	 * Method to extract the private key stored under an alias so the key bag is
+	 * decrypted once per key store load instead of once per operation.
+	 * 
+	 * <p>
+	 * The key is translated by the RSA Key factory instance into the provider's
+	 * own key object, keeping the {@code CRT} form when the key store holds it.
+	 * </p>
+	 * 
+	 * @param keyStore Loaded {@link KeyStore} object
+	 * @param alias    Alias of the key
+	 * @return {@link PrivateKey} object
+	 */
+	private PrivateKey loadPrivateKey(KeyStore keyStore, String alias) {
+		try {
+			Key key = keyStore.getKey(alias, AppProperties.strProperty("keystore.pass").toCharArray());
+			if (!(key instanceof PrivateKey))
+				throw ConfigException.getInstance("no private key found in key store for alias: " + alias);
+
+			PrivateKey translatedKey = (PrivateKey) CryptoPrimitives
+					.keyFactory(AppProperties.strProperty("rsa.instance")).translateKey(key);
+			Log.info(this.getClass().getSimpleName(), "loadPrivateKey", "private key of alias %s loaded in %s form...",
+					alias, translatedKey instanceof RSAPrivateCrtKey ? "CRT" : "non-CRT");
+			return translatedKey;
+		} catch (KeyStoreException | NoSuchAlgorithmException | UnrecoverableKeyException | InvalidKeyException e) {
+			throw ConfigException.getInstance("exception occurred while loading private key: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to get the certificate stored under an alias
+	 * 
+	 * @param keyStore Loaded {@link KeyStore} object
+	 * @param alias    Alias of the certificate
+	 * @return {@link Certificate} object
+	 */
+	private static Certificate certificate(KeyStore keyStore, String alias) {
+		try {
+			Certificate certificate = keyStore.getCertificate(alias);
+			if (Objects.isNull(certificate))
+				throw ConfigException.getInstance("no certificate found in key store for alias: " + alias);
+			return certificate;
+		} catch (KeyStoreException e) {
+			throw ConfigException.getInstance("exception occurred while loading certificate: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to compute the key id of a certificate public key: the
+	 * {@code Base64 URL} encoded digest, without padding, of the encoded key using
+	 * the algorithm mentioned in configurations with property
+	 * 'key.id.digest.instance'
+	 * 
+	 * @param publicKey Public key of the certificate
+	 * @return Key id
+	 */
+	private static String keyId(PublicKey publicKey) {
+		try {
+			return Base64.getUrlEncoder().withoutPadding()
+					.encodeToString(CryptoPrimitives.messageDigest(AppProperties.strProperty("key.id.digest.instance"))
+							.digest(publicKey.getEncoded()));
+		} catch (NoSuchAlgorithmException e) {
+			throw ConfigException.getInstance("exception occurred while computing key id: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to collect the signing keys of the service. The {@code RSA} private
+	 * key is always used for {@link SignatureAlgorithm#RS256}, the keys of the
+	 * other algorithms are extracted from the aliases mentioned in configurations
+	 * when they are set.
+	 * 
+	 * @param keyStore   Loaded {@link KeyStore} object
+	 * @param privateKey {@code RSA} private key of the service
+	 * @return Signing keys mapped to their {@link SignatureAlgorithm}
+	 */
+	private Map<SignatureAlgorithm, PrivateKey> loadSigningKeys(KeyStore keyStore, PrivateKey privateKey) {
+		Map<SignatureAlgorithm, PrivateKey> keys = new EnumMap<>(SignatureAlgorithm.class);
+		keys.put(SignatureAlgorithm.RS256, privateKey);
+
+		for (SignatureAlgorithm algorithm : SignatureAlgorithm.values()) {
+			String alias = AppProperties.strProperty(algorithm.getAliasProperty());
+			if (SignatureAlgorithm.RS256.equals(algorithm) || Objects.isNull(alias) || alias.isBlank())
+				continue;
+
+			try {
+				Key key = keyStore.getKey(alias, AppProperties.strProperty("keystore.pass").toCharArray());
+				if (!(key instanceof PrivateKey) || !algorithm.equals(SignatureAlgorithm.of(key)))
+					throw ConfigException
+							.getInstance("no " + algorithm + " private key found in key store for alias: " + alias);
+				keys.put(algorithm, (PrivateKey) key);
+			} catch (KeyStoreException | NoSuchAlgorithmException | UnrecoverableKeyException | AppException e) {
+				throw ConfigException.getInstance("exception occurred while loading signing key: " + e.getMessage());
+			}
+		}
+
+		Log.info(this.getClass().getSimpleName(), "loadSigningKeys", "signing key(s) loaded for %s...",
+				keys.keySet());
+		return Collections.unmodifiableMap(keys);
+	}
+
+	/**
+	 * Method to collect the key agreement keys of the service unwrapping the data
+	 * keys agreed with {@code ECDH-ES}, extracted from the aliases mentioned in
+	 * configurations for every {@link KeyAgreementCurve} when they are set. They
+	 * are never the signing keys, so a key agreed by a channel cannot be used to
+	 * forge a signature of the service and the other way around.
+	 * 
+	 * @param keyStore Loaded {@link KeyStore} object
+	 * @return Key agreement keys mapped to their {@link KeyAgreementCurve}
+	 */
+	private Map<KeyAgreementCurve, PrivateKey> loadAgreementKeys(KeyStore keyStore) {
+		Map<KeyAgreementCurve, PrivateKey> keys = new EnumMap<>(KeyAgreementCurve.class);
+
+		for (KeyAgreementCurve curve : KeyAgreementCurve.values()) {
+			String alias = AppProperties.strProperty(curve.getAliasProperty());
+			if (Objects.isNull(alias) || alias.isBlank())
+				continue;
+			for (SignatureAlgorithm algorithm : SignatureAlgorithm.values())
+				if (alias.equals(AppProperties.strProperty(algorithm.getAliasProperty())))
+					throw ConfigException.getInstance("key agreement alias " + alias + " is also the signing alias of "
+							+ algorithm + ", configure a separate key");
+
+			try {
+				Key key = keyStore.getKey(alias, AppProperties.strProperty("keystore.pass").toCharArray());
+				if (!(key instanceof PrivateKey) || !curve.equals(KeyAgreementCurve.of(key)))
+					throw ConfigException
+							.getInstance("no " + curve + " private key found in key store for alias: " + alias);
+				keys.put(curve, (PrivateKey) key);
+			} catch (KeyStoreException | NoSuchAlgorithmException | UnrecoverableKeyException | AppException e) {
+				throw ConfigException
+						.getInstance("exception occurred while loading key agreement key: " + e.getMessage());
+			}
+		}
+
+		Log.info(this.getClass().getSimpleName(), "loadAgreementKeys", "key agreement key(s) loaded for %s...",
+				keys.keySet());
+		return Collections.unmodifiableMap(keys);
+	}
+
+	/**
+	 * Method to load the details of a channel from {@link ChannelDetailService}
+	 * and decode its public key on the first request of the channel. A channel
+	 * that is not registered or has an invalid public key is loaded as an empty
+	 * value, cached as a negative entry by {@link ChannelIndex}.
+	 * 
+	 * @param channelId Channel id
+	 * @return {@link ChannelIndex.Entry} or empty value if the channel cannot be
+	 *         used
+	 */
+	private Optional<ChannelIndex.Entry> loadChannel(String channelId) {
+		try {
+			ChannelDetails channel = channelDetailService.channelDetails(channelId);
+			return decodePublicKey(channel).map(publicKey -> new ChannelIndex.Entry(channel, publicKey));
+		} catch (AppException e) {
+			Log.info(this.getClass().getSimpleName(), "loadChannel", "channel %s not registered, cached as absent",
+					channelId);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Method to decode the public key of a channel
+	 * 
+	 * @param channel {@link ChannelDetails} object
+	 * @return Decoded public key or empty value if the stored key is invalid
+	 */
+	private Optional<PublicKey> decodePublicKey(ChannelDetails channel) {
+		try {
+			return Optional.of(EncryptionUtility.publicKey(channel.getPublicKey().replace("\n", "")));
+		} catch (AppException e) {
+			Log.warn(this.getClass().getSimpleName(), "decodePublicKey", "invalid public key for channel %s: %s",
+					channel.getChannelId(), e.getDescription());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Method to update the cached public key of a channel as soon as its details
+	 * are saved in the system
 	 * 
-	 * @return List of {@link ChannelDetails} consisting channel details
+	 * @param event {@link ChannelChangeEvent} containing the saved channel details
 	 */
-	private List<ChannelDetails> loadChannelDetails() {
-		List<ChannelDetails> channelDetails = channelDetailService.channelDetails();
-		Log.info(this.getClass().getSimpleName(), "loadChannelDetails", "%s channel(s) loaded...",
-				channelDetails.size());
-		return channelDetails;
+	@EventListener
+	public void channelChanged(ChannelChangeEvent event) {
+		ChannelDetails channel = event.getChannelDetails();
+		decodePublicKey(channel).ifPresentOrElse(publicKey -> channelIndex.put(channel, publicKey),
+				() -> channelIndex.invalidate(List.of(channel.getChannelId())));
+		Log.info(this.getClass().getSimpleName(), "channelChanged", "public key updated for channel %s",
+				channel.getChannelId());
 	}
 
 	/**
-	 * Method to refresh the cached key store and channel keys at a given interval
-	 * mentioned in the {@code application.properties} file with property
-	 * 'config.cache.reload.midnight'
+	 * Method to apply the channels changed since the last sync to the cache at a
+	 * given interval mentioned in the {@code application.properties} file with
+	 * property 'config.cache.reload.channels', so a channel registered on another
+	 * instance is visible within seconds without reloading every channel.
+	 * 
+	 * <p>
+	 * The changes are stamped and the watermark is read with the data base
+	 * clock, so the clock of an instance never matters. They are fetched from
+	 * the watermark minus the overlap mentioned in configurations with property
+	 * 'channel.sync.overlap.ms', covering changes committed after the watermark
+	 * was read. Applying a change twice is harmless since the current details of
+	 * the channel are fetched.
+	 * Only the changed channels already cached are fetched again, negative
+	 * entries included, the others are loaded on their next request.
+	 * </p>
+	 * 
+	 * 
+	 * @see <a href =
+	 *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/scheduling/annotation/Scheduled.html">Scheduled</a>
+	 */
+	@Scheduled(fixedDelayString = "${config.cache.reload.channels}")
+	protected void syncChannels() {
+		Instant watermark = channelDetailService.databaseTime();
+		List<ChannelChange> changes = channelDetailService.channelChanges(
+				channelWatermark.minusMillis(AppProperties.intProperty("channel.sync.overlap.ms")));
+		this.channelWatermark = watermark;
+		if (changes.isEmpty())
+			return;
+
+		Set<String> channelIds = new HashSet<>();
+		changes.forEach(change -> channelIds.add(change.getChannelId()));
+		Set<String> cached = Set.copyOf(channelIndex.cached(channelIds));
+		channelIndex.invalidate(channelIds);
+		if (!cached.isEmpty())
+			channelDetailService.channelDetails(cached).forEach(channel -> decodePublicKey(channel)
+					.ifPresent(publicKey -> channelIndex.put(channel, publicKey)));
+		Log.info(this.getClass().getSimpleName(), "syncChannels", "%s channel(s) synced up to %s",
+				channelIds.size(), watermark);
+	}
+
+	/**
+	 * Method to reload the key store and swap the {@link KeyRing} in a single
+	 * write, so an operation sees either all the old keys or all the new ones.
+	 * The current ring is kept when the key store cannot be loaded. A
+	 * {@link KeyStoreReloadEvent} is published once the new ring is in place.
+	 * 
+	 * @throws ConfigException Thrown when the key store or its keys cannot be
+	 *                         loaded
+	 */
+	public synchronized void reloadKeyStore() {
+		this.keyRing = loadKeyRing(loadKeyStore());
+		Log.info(this.getClass().getSimpleName(), "reloadKeyStore", "key store reloaded at %s with key id(s) %s",
+				CommonUtility.getCurrentTimeStamp(), keyRing.keyIds());
+		eventPublisher.publishEvent(KeyStoreReloadEvent.getInstance(keyRing.keyIds()));
+	}
+
+	/**
+	 * Method to refresh the cached key store at a given interval mentioned in the
+	 * {@code application.properties} file with property
+	 * 'config.cache.reload.midnight'. Changes of the key store file are picked up
+	 * right away by {@link KeyStoreWatcher}, the channels are kept up to date by
+	 * {@link #syncChannels()} and expire from {@link ChannelIndex}.
 	 * 
 	 * 
 	 * @see <a href =
@@ -112,13 +444,26 @@ public class ApplicationInit {
 	 */
 	@Scheduled(cron = "${config.cache.reload.midnight}")
 	protected void refreshKeyStore() {
-		this.keyStore = loadKeyStore();
-		Log.info(this.getClass().getSimpleName(), "refreshKeyStore", "key store refreshed at %s",
-				CommonUtility.getCurrentTimeStamp());
+		reloadKeyStore();
+	}
 
-		this.channels = loadChannelDetails();
-		Log.info(this.getClass().getSimpleName(), "refreshChannelDetails", "channel details refreshed at %s",
-				CommonUtility.getCurrentTimeStamp());
+	/**
+	 * Method to purge the channel changes older than the hours mentioned in
+	 * configurations with property 'channel.change.retention.hours' at the
+	 * interval mentioned in the {@code application.properties} file with
+	 * property 'config.cache.reload.midnight'. The retention must stay far above
+	 * the sync interval, a purged change can no longer reach an instance.
+	 * 
+	 * 
+	 * @see <a href =
+	 *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/scheduling/annotation/Scheduled.html">Scheduled</a>
+	 */
+	@Scheduled(cron = "${config.cache.reload.midnight}")
+	protected void purgeChannelChanges() {
+		Instant before = channelDetailService.databaseTime()
+				.minus(Duration.ofHours(AppProperties.intProperty("channel.change.retention.hours")));
+		Log.info(this.getClass().getSimpleName(), "purgeChannelChanges", "%s channel change(s) purged before %s",
+				channelDetailService.purgeChannelChanges(before), before);
 	}
 
 	/**
@@ -131,27 +476,126 @@ public class ApplicationInit {
 	 */
 	@PostConstruct
 	private void init() {
-		this.keyStore = loadKeyStore();
-		this.channels = loadChannelDetails();
+		this.keyRing = loadKeyRing(loadKeyStore());
+		this.channelWatermark = channelDetailService.databaseTime();
 
 	}
 
+	/**
+	 * Method to get the {@link KeyRing} of the last key store load, so keys of
+	 * the same load can be read together
+	 * 
+	 * @return {@link KeyRing} object
+	 */
+	public KeyRing keyRing() {
+		return keyRing;
+	}
+
 	/**
 	 * Method to get Key store object
 	 * 
 	 * @return {@link KeyStore} object
 	 */
 	public KeyStore keyStore() {
-		return keyStore;
+		return keyRing.getKeyStore();
+	}
+
+	/**
+	 * Method to get the current private key extracted from the key store
+	 * 
+	 * @return {@link PrivateKey} object
+	 */
+	public PrivateKey privateKey() {
+		return keyRing.privateKey();
 	}
 
 	/**
-	 * Method to get list of channels
+	 * Method to get the private key of a key id extracted from the key store
+	 * 
+	 * @param keyId Key id named in the envelope
+	 * @return {@link PrivateKey} or empty value if the key id is not in the key
+	 *         ring
+	 */
+	public Optional<PrivateKey> privateKey(String keyId) {
+		return keyRing.privateKey(keyId);
+	}
+
+	/**
+	 * Method to get the key id of the current private key
+	 * 
+	 * @return Key id
+	 */
+	public String keyId() {
+		return keyRing.getKeyId();
+	}
+
+	/**
+	 * Method to get the signing key of the service for a signature algorithm
+	 * 
+	 * @param algorithm {@link SignatureAlgorithm} of the key
+	 * @return {@link PrivateKey} or empty value if no key is configured for the
+	 *         algorithm
+	 */
+	public Optional<PrivateKey> signingKey(SignatureAlgorithm algorithm) {
+		return keyRing.signingKey(algorithm);
+	}
+
+	/**
+	 * Method to get the key agreement key of the service for a curve
+	 * 
+	 * @param curve {@link KeyAgreementCurve} of the key
+	 * @return {@link PrivateKey} or empty value if no key is configured for the
+	 *         curve
+	 */
+	public Optional<PrivateKey> agreementKey(KeyAgreementCurve curve) {
+		return keyRing.agreementKey(curve);
+	}
+
+	/**
+	 * Method to get list of the registered channels, read from the data base
+	 * since {@link ChannelIndex} holds only the channels requested lately
 	 * 
 	 * @return List of {@link ChannelDetails}
 	 */
 	public List<ChannelDetails> channels() {
-		return channels;
+		return channelDetailService.channelDetails();
+	}
+
+	/**
+	 * Method to get the decoded public key of a channel
+	 * 
+	 * @param channelId Channel id
+	 * @return Decoded {@link PublicKey} or empty value if the channel is not
+	 *         registered
+	 */
+	public Optional<PublicKey> publicKey(String channelId) {
+		ChannelIndex.Entry scoped = scopedChannel.get();
+		if (Objects.nonNull(scoped) && scoped.getChannelId().equals(channelId))
+			return Optional.of(scoped.getPublicKey());
+		return channelIndex.get(channelId).map(ChannelIndex.Entry::getPublicKey);
+	}
+
+	/**
+	 * Method to make the public key of a channel that is not stored in the
+	 * system, such as the synthetic channel used while warming up, resolvable on
+	 * the calling thread only. Requests served by other threads never see it.
+	 * 
+	 * @param channelId Channel id
+	 * @param publicKey {@link PublicKey} of the channel
+	 * @throws AppException Thrown when the key cannot be encoded
+	 */
+	public void scopePublicKey(String channelId, PublicKey publicKey) throws AppException {
+		scopedChannel.set(new ChannelIndex.Entry(
+				ChannelDetails.getInstance(channelId, CommonUtility.encodedString(publicKey.getEncoded())),
+				publicKey));
+	}
+
+	/**
+	 * Method to drop the public key added on the calling thread with
+	 * {@link #scopePublicKey(String, PublicKey)}
+	 */
+	public void clearScopedPublicKey() {
+		scopedChannel.remove();
 	}
 
 	/**
@@ -160,9 +604,9 @@ public class ApplicationInit {
 	 */
 	@PreDestroy
 	private synchronized void clean() {
-		this.keyStore = null;
+		this.keyRing = KeyRing.empty();
 		Log.info(this.getClass().getSimpleName(), "clean", "key store object destroyed");
-		this.channels.clear();
+		this.channelIndex.invalidateAll();
 		Log.info(this.getClass().getSimpleName(), "clean", "properties object destroyed");
 	}
 }
@@ -0,0 +1,191 @@
+package com.encryption.config;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.model.entity.ChannelDetails;
+import com.utilities.property.AppProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The {@code ChannelIndex} class is a bounded index of the channels and their
+ * decoded public keys, loaded lazily from the data base on the first request
+ * of a channel instead of loading every channel up front.
+ *
+ * <p>
+ * The index holds at most the number of registered channels mentioned in
+ * configurations with property 'channel.cache.max.size', evicting the least
+ * used ones. A channel that is not registered, or whose public key is invalid,
+ * is kept apart as a negative entry, at most property
+ * 'channel.cache.negative.max.size' of them for property
+ * 'channel.cache.negative.expire.seconds', so repeated requests with an
+ * unknown channel id do not reach the data base every time and a burst of
+ * unknown ids never evicts a registered channel. Registered channels expire
+ * after property 'channel.cache.expire.seconds' as a safety net, the channel
+ * changes are applied to the index as soon as they are known.
+ * </p>
+ *
+ * <p>
+ * Concurrent requests for a channel that is not indexed share a single load. A
+ * failing load, such as the data base being unavailable, is not cached.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://github.com/ben-manes/caffeine/wiki/Population#manual">
+ *      Caffeine Cache</a>
+ * @author Kabir Akware
+ */
+public final class ChannelIndex {
+
+	/**
+	 * Entries of the registered channels mapped to the channel id
+	 */
+	private final Cache<String, Entry> channels;
+
+	/**
+	 * Channel ids known not to be registered
+	 */
+	private final Cache<String, Boolean> negatives;
+
+	/**
+	 * Loader of a channel entry, empty when the channel is unknown
+	 */
+	private final Function<String, Optional<Entry>> loader;
+
+	/**
+	 * Private constructor building the index with the given loader
+	 *
+	 * @param loader Loader of a channel entry, empty when the channel is unknown
+	 */
+	private ChannelIndex(Function<String, Optional<Entry>> loader) {
+		this.channels = Caffeine.newBuilder().maximumSize(AppProperties.intProperty("channel.cache.max.size"))
+				.expireAfterWrite(Duration.ofSeconds(AppProperties.intProperty("channel.cache.expire.seconds")))
+				.build();
+		this.negatives = Caffeine.newBuilder()
+				.maximumSize(AppProperties.intProperty("channel.cache.negative.max.size"))
+				.expireAfterWrite(
+						Duration.ofSeconds(AppProperties.intProperty("channel.cache.negative.expire.seconds")))
+				.build();
+		this.loader = loader;
+	}
+
+	/**
+	 * Method to get a new instance of {@link ChannelIndex}
+	 *
+	 * @param loader Loader of a channel entry, empty when the channel is unknown
+	 * @return New instance of {@link ChannelIndex}
+	 */
+	public static ChannelIndex getInstance(Function<String, Optional<Entry>> loader) {
+		return new ChannelIndex(loader);
+	}
+
+	/**
+	 * Method to get the entry of a channel, loading it when it is not indexed. A
+	 * registered entry always wins over a negative one.
+	 *
+	 * @param channelId Channel id
+	 * @return {@link Entry} or empty value if the channel is not registered
+	 */
+	public Optional<Entry> get(String channelId) {
+		Entry entry = channels.getIfPresent(channelId);
+		if (Objects.nonNull(entry))
+			return Optional.of(entry);
+		if (Objects.nonNull(negatives.getIfPresent(channelId)))
+			return Optional.empty();
+
+		entry = channels.get(channelId, id -> loader.apply(id).orElse(null));
+		if (Objects.isNull(entry))
+			negatives.put(channelId, Boolean.TRUE);
+		return Optional.ofNullable(entry);
+	}
+
+	/**
+	 * Method to get the channel ids among the given ones that are indexed, as
+	 * registered or negative entries
+	 *
+	 * @param channelIds Channel ids
+	 * @return Set of the indexed channel ids
+	 */
+	public Set<String> cached(Collection<String> channelIds) {
+		Set<String> cached = new HashSet<>(channels.getAllPresent(channelIds).keySet());
+		cached.addAll(negatives.getAllPresent(channelIds).keySet());
+		return cached;
+	}
+
+	/**
+	 * Method to add or replace the entry of a channel
+	 *
+	 * @param channelDetails {@link ChannelDetails} of the channel
+	 * @param publicKey      Decoded {@link PublicKey} of the channel
+	 */
+	public void put(ChannelDetails channelDetails, PublicKey publicKey) {
+		channels.put(channelDetails.getChannelId(), new Entry(channelDetails, publicKey));
+		negatives.invalidate(channelDetails.getChannelId());
+	}
+
+	/**
+	 * Method to drop the entries of the given channels so they are loaded again
+	 * on their next request
+	 *
+	 * @param channelIds Channel ids
+	 */
+	public void invalidate(Collection<String> channelIds) {
+		channels.invalidateAll(channelIds);
+		negatives.invalidateAll(channelIds);
+	}
+
+	/**
+	 * Method to drop every entry
+	 */
+	public void invalidateAll() {
+		channels.invalidateAll();
+		negatives.invalidateAll();
+	}
+
+	/**
+	 * Method to get the approximate number of indexed registered channels
+	 *
+	 * @return Number of registered channels, negative entries excluded
+	 */
+	public long size() {
+		return channels.estimatedSize();
+	}
+
+	/**
+	 * Entry of a channel with its decoded key material
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static final class Entry {
+
+		/**
+		 * {@link ChannelDetails} of the channel
+		 */
+		private final ChannelDetails channelDetails;
+
+		/**
+		 * Decoded {@link PublicKey} of the channel
+		 */
+		private final PublicKey publicKey;
+
+		/**
+		 * Method to get the id of the channel
+		 *
+		 * @return Channel id
+		 */
+		public String getChannelId() {
+			return channelDetails.getChannelId();
+		}
+	}
+}
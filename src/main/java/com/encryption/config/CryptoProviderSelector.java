@@ -0,0 +1,449 @@
+package com.encryption.config;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyStoreException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.PrivateKey;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.Security;
+import java.security.Signature;
+import java.security.cert.Certificate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import com.encryption.crypto.CryptoPrimitives;
+import com.encryption.crypto.SignatureAlgorithm;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The {@code CryptoProviderSelector} class chooses the {@code JCE} provider of
+ * every primitive used on the hot path once {@link ApplicationInit} has loaded
+ * the service keys.
+ *
+ * <p>
+ * Each installed provider offering the algorithm runs a short self-test with
+ * the keys of the service: {@code AES/GCM} and {@code RSA-OAEP} round trips,
+ * sign and verify for every configured signature algorithm and a
+ * {@code PBKDF2} derivation. A provider is accepted only when it and the
+ * default provider understand each other's output in both directions, then it
+ * is timed over the iterations mentioned in configurations with property
+ * 'crypto.benchmark.iterations' after property 'crypto.benchmark.warmup' warm
+ * up runs. The fastest accepted provider is handed to
+ * {@link CryptoPrimitives}.
+ * </p>
+ *
+ * <p>
+ * The Bouncy Castle provider named with property
+ * 'bouncy.castle.provider.instance' is registered as a candidate when it is on
+ * the class path. The benchmark is skipped when property
+ * 'crypto.benchmark.enabled' is not set, keeping the default provider
+ * resolution. It is off by default since every provider runs the warm up and
+ * timed rounds of every primitive, {@code PBKDF2} included, on each start.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Component
+@DependsOn("appPropertiesInit")
+public class CryptoProviderSelector {
+
+	/**
+	 * Class of the Bouncy Castle provider
+	 */
+	private static final String BOUNCY_CASTLE_PROVIDER = "org.bouncycastle.jce.provider.BouncyCastleProvider";
+
+	/**
+	 * Length of the data encrypted and signed by the self-tests
+	 */
+	private static final int DATA_LENGTH = 1024;
+
+	/**
+	 * Length of the {@code AES/GCM} nonce
+	 */
+	private static final int IV_LENGTH = 12;
+
+	/**
+	 * {@link ApplicationInit} object parameter
+	 */
+	private final ApplicationInit applicationInit;
+
+	/**
+	 * Random source of the self-test data
+	 */
+	private final SecureRandom random = new SecureRandom();
+
+	/**
+	 * Provider chosen per primitive by the last benchmark
+	 */
+	private volatile List<ProviderChoice> choices = List.of();
+
+	/**
+	 * Custom constructor to load {@link ApplicationInit} in the class so the keys
+	 * are loaded before the benchmark runs
+	 *
+	 * @param applicationInit {@link ApplicationInit} object
+	 */
+	public CryptoProviderSelector(ApplicationInit applicationInit) {
+		this.applicationInit = applicationInit;
+	}
+
+	/**
+	 * Method to get the provider chosen per primitive
+	 *
+	 * @return List of {@link ProviderChoice}
+	 */
+	public List<ProviderChoice> choices() {
+		return choices;
+	}
+
+	/**
+	 * Custom {@code init()} method benchmarking the providers and handing the
+	 * fastest ones to {@link CryptoPrimitives}
+	 */
+	@PostConstruct
+	private void init() {
+		if (!Boolean.parseBoolean(AppProperties.strProperty("crypto.benchmark.enabled"))) {
+			Log.info(this.getClass().getSimpleName(), "init",
+					"provider benchmark disabled, using default providers...");
+			return;
+		}
+
+		registerBouncyCastle();
+		List<ProviderChoice> results = new ArrayList<>();
+		results.add(benchmark("Cipher", AppProperties.strProperty("aes.algorithm"), this::aesGcm));
+		signingKeyPair(SignatureAlgorithm.RS256).ifPresent(keyPair -> results.add(benchmark("Cipher",
+				AppProperties.strProperty("rsa.algorithm"), provider -> rsaOaep(provider, keyPair))));
+		for (SignatureAlgorithm algorithm : SignatureAlgorithm.values())
+			signingKeyPair(algorithm).ifPresent(keyPair -> results.add(benchmark("Signature", algorithm.instance(),
+					provider -> signature(provider, algorithm.instance(), keyPair))));
+		results.add(benchmark("SecretKeyFactory", AppProperties.strProperty("secret.instance"), this::pbkdf2));
+
+		Map<String, Provider> selected = new HashMap<>();
+		results.stream().filter(choice -> Objects.nonNull(choice.getProvider())).forEach(choice -> selected
+				.put(choice.getType() + "." + choice.getAlgorithm(), Security.getProvider(choice.getProvider())));
+		CryptoPrimitives.useProviders(selected);
+		this.choices = List.copyOf(results);
+	}
+
+	/**
+	 * Method to time the self-test of every installed provider offering the
+	 * algorithm and choose the fastest one
+	 *
+	 * @param type      Primitive type, e.g. {@code Cipher}
+	 * @param algorithm Algorithm of the primitive
+	 * @param selfTest  {@link SelfTest} of the primitive
+	 * @return {@link ProviderChoice} of the primitive
+	 */
+	private ProviderChoice benchmark(String type, String algorithm, SelfTest selfTest) {
+		int warmup = AppProperties.intProperty("crypto.benchmark.warmup");
+		int iterations = Math.max(1, AppProperties.intProperty("crypto.benchmark.iterations"));
+		Map<String, Long> timings = new LinkedHashMap<>();
+		Map<String, String> rejected = new LinkedHashMap<>();
+
+		for (Provider provider : Security.getProviders()) {
+			try {
+				Operation operation = selfTest.prepare(provider);
+				for (int i = 0; i < warmup; i++)
+					operation.run();
+
+				long start = System.nanoTime();
+				for (int i = 0; i < iterations; i++)
+					operation.run();
+				timings.put(provider.getName(), (System.nanoTime() - start) / iterations);
+			} catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+				// provider does not offer the algorithm
+			} catch (GeneralSecurityException | RuntimeException e) {
+				rejected.put(provider.getName(), String.valueOf(e.getMessage()));
+			}
+		}
+
+		String fastest = timings.entrySet().stream().min(Map.Entry.comparingByValue()).map(Map.Entry::getKey)
+				.orElse(null);
+		Log.info(this.getClass().getSimpleName(), "benchmark", "%s.%s: %s chosen, ns per operation %s, rejected %s",
+				type, algorithm, fastest, timings, rejected.keySet());
+		return new ProviderChoice(type, algorithm, fastest, timings, rejected);
+	}
+
+	/**
+	 * Method to prepare the {@code AES/GCM} round trip of a provider
+	 *
+	 * @param provider Candidate {@link Provider}
+	 * @return {@link Operation} encrypting and decrypting with a fresh nonce
+	 * @throws GeneralSecurityException Thrown when the provider fails the
+	 *                                  self-test
+	 */
+	private Operation aesGcm(Provider provider) throws GeneralSecurityException {
+		String algorithm = AppProperties.strProperty("aes.algorithm");
+		int tagLength = AppProperties.intProperty("gcm.length");
+		SecretKey key = new SecretKeySpec(randomBytes(AppProperties.intProperty("data.key.size") / Byte.SIZE),
+				AppProperties.strProperty("aes.instance"));
+		byte[] data = randomBytes(DATA_LENGTH);
+		Cipher cipher = Cipher.getInstance(algorithm, provider);
+
+		GCMParameterSpec spec = new GCMParameterSpec(tagLength, randomBytes(IV_LENGTH));
+		cipher.init(Cipher.ENCRYPT_MODE, key, spec);
+		Cipher reference = Cipher.getInstance(algorithm);
+		reference.init(Cipher.DECRYPT_MODE, key, spec);
+		check(data, reference.doFinal(cipher.doFinal(data)));
+
+		spec = new GCMParameterSpec(tagLength, randomBytes(IV_LENGTH));
+		reference.init(Cipher.ENCRYPT_MODE, key, spec);
+		cipher.init(Cipher.DECRYPT_MODE, key, spec);
+		check(data, cipher.doFinal(reference.doFinal(data)));
+
+		return () -> {
+			GCMParameterSpec nonce = new GCMParameterSpec(tagLength, randomBytes(IV_LENGTH));
+			cipher.init(Cipher.ENCRYPT_MODE, key, nonce);
+			byte[] encrypted = cipher.doFinal(data);
+			cipher.init(Cipher.DECRYPT_MODE, key, nonce);
+			check(data, cipher.doFinal(encrypted));
+		};
+	}
+
+	/**
+	 * Method to prepare the {@code RSA-OAEP} round trip of a provider
+	 *
+	 * @param provider Candidate {@link Provider}
+	 * @param keyPair  {@code RSA} key pair of the service
+	 * @return {@link Operation} wrapping and unwrapping a data key
+	 * @throws GeneralSecurityException Thrown when the provider fails the
+	 *                                  self-test
+	 */
+	private Operation rsaOaep(Provider provider, KeyPair keyPair) throws GeneralSecurityException {
+		String algorithm = AppProperties.strProperty("rsa.algorithm");
+		byte[] data = randomBytes(AppProperties.intProperty("data.key.size") / Byte.SIZE);
+		Cipher cipher = Cipher.getInstance(algorithm, provider);
+
+		cipher.init(Cipher.ENCRYPT_MODE, keyPair.getPublic());
+		Cipher reference = Cipher.getInstance(algorithm);
+		reference.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+		check(data, reference.doFinal(cipher.doFinal(data)));
+
+		reference.init(Cipher.ENCRYPT_MODE, keyPair.getPublic());
+		cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+		check(data, cipher.doFinal(reference.doFinal(data)));
+
+		return () -> {
+			cipher.init(Cipher.ENCRYPT_MODE, keyPair.getPublic());
+			byte[] encrypted = cipher.doFinal(data);
+			cipher.init(Cipher.DECRYPT_MODE, keyPair.getPrivate());
+			check(data, cipher.doFinal(encrypted));
+		};
+	}
+
+	/**
+	 * Method to prepare the sign and verify round trip of a provider
+	 *
+	 * @param provider  Candidate {@link Provider}
+	 * @param algorithm Signature algorithm
+	 * @param keyPair   Signing key pair of the service
+	 * @return {@link Operation} signing and verifying the data
+	 * @throws GeneralSecurityException Thrown when the provider fails the
+	 *                                  self-test
+	 */
+	private Operation signature(Provider provider, String algorithm, KeyPair keyPair)
+			throws GeneralSecurityException {
+		byte[] data = randomBytes(DATA_LENGTH);
+		Signature signature = Signature.getInstance(algorithm, provider);
+
+		signature.initSign(keyPair.getPrivate());
+		signature.update(data);
+		Signature reference = Signature.getInstance(algorithm);
+		reference.initVerify(keyPair.getPublic());
+		reference.update(data);
+		if (!reference.verify(signature.sign()))
+			throw new GeneralSecurityException("signature not verified by the default provider");
+
+		reference.initSign(keyPair.getPrivate());
+		reference.update(data);
+		signature.initVerify(keyPair.getPublic());
+		signature.update(data);
+		if (!signature.verify(reference.sign()))
+			throw new GeneralSecurityException("signature of the default provider not verified");
+
+		return () -> {
+			signature.initSign(keyPair.getPrivate());
+			signature.update(data);
+			byte[] sign = signature.sign();
+			signature.initVerify(keyPair.getPublic());
+			signature.update(data);
+			if (!signature.verify(sign))
+				throw new GeneralSecurityException("signature not verified");
+		};
+	}
+
+	/**
+	 * Method to prepare the {@code PBKDF2} derivation of a provider
+	 *
+	 * @param provider Candidate {@link Provider}
+	 * @return {@link Operation} deriving a key with the configured iterations
+	 * @throws GeneralSecurityException Thrown when the provider fails the
+	 *                                  self-test
+	 */
+	private Operation pbkdf2(Provider provider) throws GeneralSecurityException {
+		String algorithm = AppProperties.strProperty("secret.instance");
+		PBEKeySpec spec = new PBEKeySpec("provider-benchmark".toCharArray(), randomBytes(IV_LENGTH),
+				AppProperties.intProperty("iteration.count"), AppProperties.intProperty("key.size"));
+		SecretKeyFactory secretKeyFactory = SecretKeyFactory.getInstance(algorithm, provider);
+		byte[] expected = SecretKeyFactory.getInstance(algorithm).generateSecret(spec).getEncoded();
+
+		return () -> check(expected, secretKeyFactory.generateSecret(spec).getEncoded());
+	}
+
+	/**
+	 * Method to get the key pair of a signature algorithm from the signing key
+	 * and the certificate stored under its alias
+	 *
+	 * @param algorithm {@link SignatureAlgorithm} of the key pair
+	 * @return {@link KeyPair} or empty value when the algorithm is not configured
+	 */
+	private Optional<KeyPair> signingKeyPair(SignatureAlgorithm algorithm) {
+		Optional<PrivateKey> privateKey = applicationInit.signingKey(algorithm);
+		String alias = AppProperties.strProperty(algorithm.getAliasProperty());
+		if (privateKey.isEmpty() || Objects.isNull(alias) || alias.isBlank())
+			return Optional.empty();
+
+		try {
+			Certificate certificate = applicationInit.keyStore().getCertificate(alias);
+			return Objects.isNull(certificate) ? Optional.empty()
+					: Optional.of(new KeyPair(certificate.getPublicKey(), privateKey.get()));
+		} catch (KeyStoreException e) {
+			Log.warn(this.getClass().getSimpleName(), "signingKeyPair", "no certificate for alias %s: %s", alias,
+					e.getMessage());
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Method to register the Bouncy Castle provider when it is on the class path
+	 */
+	private void registerBouncyCastle() {
+		String name = AppProperties.strProperty("bouncy.castle.provider.instance");
+		if (Objects.isNull(name) || name.isBlank() || Objects.nonNull(Security.getProvider(name)))
+			return;
+
+		try {
+			Security.addProvider(
+					(Provider) Class.forName(BOUNCY_CASTLE_PROVIDER).getDeclaredConstructor().newInstance());
+			Log.info(this.getClass().getSimpleName(), "registerBouncyCastle", "%s provider registered...", name);
+		} catch (ReflectiveOperationException | LinkageError e) {
+			Log.info(this.getClass().getSimpleName(), "registerBouncyCastle", "%s provider not available: %s", name,
+					e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to generate random self-test data
+	 *
+	 * @param length Number of bytes
+	 * @return Random bytes
+	 */
+	private byte[] randomBytes(int length) {
+		byte[] bytes = new byte[length];
+		random.nextBytes(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Method to compare the output of a self-test with the expected value
+	 *
+	 * @param expected Expected bytes
+	 * @param actual   Bytes produced by the provider
+	 * @throws GeneralSecurityException Thrown when the bytes differ
+	 */
+	private static void check(byte[] expected, byte[] actual) throws GeneralSecurityException {
+		if (!MessageDigest.isEqual(expected, actual))
+			throw new GeneralSecurityException("self-test output does not match the default provider");
+	}
+
+	/**
+	 * Provider chosen for a primitive with the timings of every candidate
+	 */
+	@Getter
+	@AllArgsConstructor
+	public static class ProviderChoice {
+
+		/**
+		 * Primitive type, e.g. {@code Cipher}
+		 */
+		private final String type;
+
+		/**
+		 * Algorithm of the primitive
+		 */
+		private final String algorithm;
+
+		/**
+		 * Name of the chosen provider or {@code null} for the default provider
+		 * resolution
+		 */
+		private final String provider;
+
+		/**
+		 * Nanoseconds per operation of every accepted provider
+		 */
+		private final Map<String, Long> timings;
+
+		/**
+		 * Reason of every provider failing the self-test
+		 */
+		private final Map<String, String> rejected;
+	}
+
+	/**
+	 * Functional interface preparing the self-test of a provider
+	 */
+	@FunctionalInterface
+	private interface SelfTest {
+
+		/**
+		 * Method to create the primitives of the provider and check them against
+		 * the default provider
+		 *
+		 * @param provider Candidate {@link Provider}
+		 * @return {@link Operation} timed by the benchmark
+		 * @throws GeneralSecurityException Thrown when the provider fails the
+		 *                                  self-test
+		 */
+		Operation prepare(Provider provider) throws GeneralSecurityException;
+	}
+
+	/**
+	 * Functional interface of a single timed self-test operation
+	 */
+	@FunctionalInterface
+	private interface Operation {
+
+		/**
+		 * Method to run the operation once
+		 *
+		 * @throws GeneralSecurityException Thrown when the operation fails
+		 */
+		void run() throws GeneralSecurityException;
+	}
+}
@@ -0,0 +1,43 @@
+package com.encryption.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import com.encryption.config.CryptoProviderSelector.ProviderChoice;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Actuator endpoint {@code cryptoproviders} exposing the {@code JCE} provider
+ * chosen per primitive by {@link CryptoProviderSelector} together with the
+ * timings of every candidate.
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-boot/api/java/org/springframework/boot/actuate/endpoint/annotation/Endpoint.html">
+ *      Endpoint </a>
+ * @author Kabir Akware
+ */
+@Component
+@AllArgsConstructor
+@Endpoint(id = "cryptoproviders")
+public class CryptoProvidersEndpoint {
+
+	/**
+	 * {@link CryptoProviderSelector} object parameter
+	 */
+	private CryptoProviderSelector cryptoProviderSelector;
+
+	/**
+	 * Method to get the provider chosen per primitive
+	 *
+	 * @return List of {@link ProviderChoice}
+	 */
+	@ReadOperation
+	public List<ProviderChoice> providers() {
+		return cryptoProviderSelector.choices();
+	}
+}
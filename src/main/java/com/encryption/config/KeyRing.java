@@ -0,0 +1,160 @@
+package com.encryption.config;
+
+import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.encryption.crypto.KeyAgreementCurve;
+import com.encryption.crypto.SignatureAlgorithm;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The {@code KeyRing} class is an immutable snapshot of the key material
+ * extracted from one load of the key store: the {@code RSA} private keys of
+ * every alias mapped to their key id, the key id of the alias mentioned in
+ * configurations with property 'keystore.alias', the signing keys and the key
+ * agreement keys of the service.
+ *
+ * <p>
+ * The key id of an {@code RSA} key is the {@code Base64 URL} encoded
+ * {@code SHA-256} digest, without padding, of the encoded public key of its
+ * certificate, so a channel can compute it from the certificate it encrypts
+ * with and name it in the envelope header. Keeping every alias in the ring
+ * lets the envelopes wrapped for a retired certificate be decrypted while the
+ * channels move to the new one.
+ * </p>
+ *
+ * <p>
+ * A ring is never modified once built, the whole ring is replaced on every
+ * key store load so the keys of two loads are never mixed.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeyRing {
+
+	/**
+	 * Ring without any key
+	 */
+	private static final KeyRing EMPTY = new KeyRing(null, null, null, Collections.emptyMap(),
+			Collections.emptyMap(), Collections.emptyMap());
+
+	/**
+	 * Loaded {@link KeyStore}
+	 */
+	private final KeyStore keyStore;
+
+	/**
+	 * Key id of the current {@code RSA} private key
+	 */
+	private final String keyId;
+
+	/**
+	 * Public key of the certificate of the current {@code RSA} private key
+	 */
+	private final PublicKey publicKey;
+
+	/**
+	 * {@code RSA} private keys mapped to their key id
+	 */
+	private final Map<String, PrivateKey> privateKeys;
+
+	/**
+	 * Signing keys mapped to their {@link SignatureAlgorithm}
+	 */
+	private final Map<SignatureAlgorithm, PrivateKey> signingKeys;
+
+	/**
+	 * Key agreement keys mapped to their {@link KeyAgreementCurve}
+	 */
+	private final Map<KeyAgreementCurve, PrivateKey> agreementKeys;
+
+	/**
+	 * Method to get the ring without any key
+	 *
+	 * @return Empty {@link KeyRing}
+	 */
+	public static KeyRing empty() {
+		return EMPTY;
+	}
+
+	/**
+	 * Method to get a new instance of {@link KeyRing}
+	 *
+	 * @param keyStore      Loaded {@link KeyStore}
+	 * @param keyId         Key id of the current {@code RSA} private key, present
+	 *                      in the private keys
+	 * @param publicKey     Public key of the certificate of the current key
+	 * @param privateKeys   {@code RSA} private keys mapped to their key id
+	 * @param signingKeys   Signing keys mapped to their {@link SignatureAlgorithm}
+	 * @param agreementKeys Key agreement keys mapped to their
+	 *                      {@link KeyAgreementCurve}
+	 * @return New instance of {@link KeyRing}
+	 */
+	public static KeyRing getInstance(KeyStore keyStore, String keyId, PublicKey publicKey,
+			Map<String, PrivateKey> privateKeys, Map<SignatureAlgorithm, PrivateKey> signingKeys,
+			Map<KeyAgreementCurve, PrivateKey> agreementKeys) {
+		return new KeyRing(keyStore, keyId, publicKey, Collections.unmodifiableMap(privateKeys),
+				Collections.unmodifiableMap(signingKeys), Collections.unmodifiableMap(agreementKeys));
+	}
+
+	/**
+	 * Method to get the current {@code RSA} private key
+	 *
+	 * @return {@link PrivateKey} or {@code null} if the ring is empty
+	 */
+	public PrivateKey privateKey() {
+		return privateKeys.get(keyId);
+	}
+
+	/**
+	 * Method to get the {@code RSA} private key of a key id
+	 *
+	 * @param keyId Key id named in the envelope
+	 * @return {@link PrivateKey} or empty value if the key id is not in the ring
+	 */
+	public Optional<PrivateKey> privateKey(String keyId) {
+		return Optional.ofNullable(privateKeys.get(keyId));
+	}
+
+	/**
+	 * Method to get the signing key of a signature algorithm
+	 *
+	 * @param algorithm {@link SignatureAlgorithm} of the key
+	 * @return {@link PrivateKey} or empty value if no key is configured for the
+	 *         algorithm
+	 */
+	public Optional<PrivateKey> signingKey(SignatureAlgorithm algorithm) {
+		return Optional.ofNullable(signingKeys.get(algorithm));
+	}
+
+	/**
+	 * Method to get the key agreement key of a curve
+	 *
+	 * @param curve {@link KeyAgreementCurve} of the key
+	 * @return {@link PrivateKey} or empty value if no key is configured for the
+	 *         curve
+	 */
+	public Optional<PrivateKey> agreementKey(KeyAgreementCurve curve) {
+		return Optional.ofNullable(agreementKeys.get(curve));
+	}
+
+	/**
+	 * Method to get the key ids in the ring
+	 *
+	 * @return Set of key ids
+	 */
+	public Set<String> keyIds() {
+		return privateKeys.keySet();
+	}
+}
@@ -0,0 +1,199 @@
+package com.encryption.config;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import com.encryption.crypto.CryptoPrimitives;
+import com.utilities.exceptions.ConfigException;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * The {@code KeyStoreWatcher} class watches the key store file mentioned in
+ * configurations with property 'keystore.path' and asks
+ * {@link ApplicationInit} to reload it as soon as it is replaced or modified,
+ * so a new alias added for a key rotation is used without waiting for the
+ * midnight refresh.
+ *
+ * <p>
+ * The parent directory of the key store is watched with a {@link WatchService}
+ * on a background thread. Every event of the directory counts, whatever file
+ * it names, since a mounted secret is replaced by swapping the {@code ..data}
+ * symbolic link the key store points through rather than by writing the key
+ * store itself. A file copy usually raises several events, so the check waits
+ * until no event is raised for the time mentioned in configurations with
+ * property 'keystore.watch.debounce.ms'. The key store is then read through its
+ * links and reloaded only when its digest differs from the one last loaded.
+ * </p>
+ *
+ * <p>
+ * A key store that cannot be read or loaded, for example while it is still
+ * being written, keeps the current keys and is retried on the next event. No
+ * failure stops the watch.
+ * </p>
+ *
+ * <p>
+ * The watch is skipped when property 'keystore.watch.enabled' is not set.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.oracle.com/en/java/javase/17/docs/api/java.base/java/nio/file/WatchService.html">
+ *      WatchService</a>
+ * @author Kabir Akware
+ */
+@Component
+public class KeyStoreWatcher {
+
+	/**
+	 * Custom constructor to load {@link ApplicationInit} in the class
+	 *
+	 * @param applicationInit {@link ApplicationInit} object
+	 */
+	public KeyStoreWatcher(ApplicationInit applicationInit) {
+		this.applicationInit = applicationInit;
+	}
+
+	/**
+	 * {@link ApplicationInit} object parameter
+	 */
+	private ApplicationInit applicationInit;
+
+	/**
+	 * {@link WatchService} of the key store directory, {@code null} when the watch
+	 * is disabled
+	 */
+	private WatchService watchService;
+
+	/**
+	 * Digest of the key store content last loaded, {@code null} until it is read
+	 */
+	private byte[] loadedDigest;
+
+	/**
+	 * Method to start watching the key store directory
+	 */
+	@PostConstruct
+	private void start() {
+		if (!Boolean.parseBoolean(AppProperties.strProperty("keystore.watch.enabled"))) {
+			Log.info(this.getClass().getSimpleName(), "start", "key store watch disabled...");
+			return;
+		}
+
+		Path keyStore = Path.of(AppProperties.strProperty("keystore.path")).toAbsolutePath().normalize();
+		try {
+			this.watchService = FileSystems.getDefault().newWatchService();
+			keyStore.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+					StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+		} catch (IOException e) {
+			throw ConfigException.getInstance("exception occurred while watching key store: " + e.getMessage());
+		}
+
+		this.loadedDigest = digest(keyStore);
+		Thread watcher = new Thread(() -> watch(keyStore), "keystore-watcher");
+		watcher.setDaemon(true);
+		watcher.start();
+		Log.info(this.getClass().getSimpleName(), "start", "watching key store %s...", keyStore);
+	}
+
+	/**
+	 * Method to wait for the events of the key store directory and reload the key
+	 * store once they settle. Runs until the {@link WatchService} is closed.
+	 *
+	 * @param keyStore Absolute path of the key store
+	 */
+	private void watch(Path keyStore) {
+		long debounce = AppProperties.intProperty("keystore.watch.debounce.ms");
+		try {
+			while (true) {
+				WatchKey key = watchService.take();
+				do
+					reset(key);
+				while (Objects.nonNull(key = watchService.poll(debounce, TimeUnit.MILLISECONDS)));
+				reload(keyStore);
+			}
+		} catch (ClosedWatchServiceException e) {
+			Log.info(this.getClass().getSimpleName(), "watch", "key store watch stopped...");
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Method to drop the events of a {@link WatchKey} and reset it so it keeps
+	 * receiving events
+	 *
+	 * @param key Signalled {@link WatchKey}
+	 */
+	private static void reset(WatchKey key) {
+		key.pollEvents();
+		key.reset();
+	}
+
+	/**
+	 * Method to reload the key store when its content differs from the one last
+	 * loaded, keeping the current keys when it cannot be read or loaded
+	 *
+	 * @param keyStore Absolute path of the key store
+	 */
+	private void reload(Path keyStore) {
+		try {
+			byte[] digest = digest(keyStore);
+			if (Objects.isNull(digest) || Arrays.equals(digest, loadedDigest))
+				return;
+
+			applicationInit.reloadKeyStore();
+			this.loadedDigest = digest;
+		} catch (RuntimeException e) {
+			Log.warn(this.getClass().getSimpleName(), "reload", "key store not reloaded, current keys kept: %s",
+					e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to compute the digest of the key store content, following the
+	 * symbolic links of its path, with the algorithm mentioned in configurations
+	 * with property 'key.id.digest.instance'
+	 *
+	 * @param keyStore Absolute path of the key store
+	 * @return Digest of the key store or {@code null} when it cannot be read
+	 */
+	private byte[] digest(Path keyStore) {
+		try {
+			return CryptoPrimitives.messageDigest(AppProperties.strProperty("key.id.digest.instance"))
+					.digest(Files.readAllBytes(keyStore));
+		} catch (IOException | NoSuchAlgorithmException e) {
+			Log.warn(this.getClass().getSimpleName(), "digest", "key store not read: %s", e.getMessage());
+			return null;
+		}
+	}
+
+	/**
+	 * Method to stop watching the key store directory before destroying the
+	 * container
+	 */
+	@PreDestroy
+	private void stop() {
+		try {
+			if (Objects.nonNull(watchService))
+				watchService.close();
+		} catch (IOException e) {
+			Log.warn(this.getClass().getSimpleName(), "stop", "key store watch not closed: %s", e.getMessage());
+		}
+	}
+}
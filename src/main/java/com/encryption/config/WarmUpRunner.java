@@ -0,0 +1,218 @@
+package com.encryption.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyStoreException;
+import java.security.PublicKey;
+import java.security.cert.Certificate;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.encryption.exception.AppException;
+import com.encryption.services.EncryptionService;
+import com.encryption.utility.CommonUtility;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.model.dto.Encryption;
+import com.model.enums.Codes;
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * The {@code WarmUpRunner} class drives encryption and decryption round trips
+ * with synthetic data before the instance takes traffic, so the crypto,
+ * {@code Base64} and {@code Jackson} paths are compiled by the {@code JIT}
+ * instead of being interpreted for the first real requests.
+ *
+ * <p>
+ * The round trips run against the real key store: a synthetic channel, with
+ * the id mentioned in configurations with property 'warmup.channel.id', is
+ * given the public key of the service certificate so the service encrypts for
+ * and verifies itself. The synthetic channel is resolvable on the warm up
+ * thread only and is dropped once the warm up ends, so real callers can never
+ * use it. The warm up stops after property 'warmup.iterations'
+ * round trips or property 'warmup.duration.seconds', whichever comes first,
+ * and is skipped when property 'warmup.enabled' is not set.
+ * </p>
+ *
+ * <p>
+ * Application runners complete before Spring Boot marks the application as
+ * ready, so the readiness state stays {@code REFUSING_TRAFFIC} during the warm
+ * up. The instance registers with Eureka in {@code STARTING} status, as
+ * configured with {@code eureka.instance.initial-status}, and is switched to
+ * {@code UP} once the readiness state becomes {@code ACCEPTING_TRAFFIC}.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-boot/api/java/org/springframework/boot/ApplicationRunner.html">
+ *      ApplicationRunner </a>
+ * @author Kabir Akware
+ */
+@Component
+@AllArgsConstructor
+public class WarmUpRunner implements ApplicationRunner {
+
+	/**
+	 * {@link EncryptionService} interface parameter
+	 */
+	private EncryptionService encryptionService;
+
+	/**
+	 * {@link ApplicationInit} object parameter
+	 */
+	private ApplicationInit applicationInit;
+
+	/**
+	 * {@link ObjectMapper} used by the controllers
+	 */
+	private ObjectMapper objectMapper;
+
+	/**
+	 * {@link ApplicationEventPublisher} publishing the readiness state
+	 */
+	private ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Eureka {@link ApplicationInfoManager}, absent when the discovery client is
+	 * disabled
+	 */
+	private ObjectProvider<ApplicationInfoManager> applicationInfoManager;
+
+	/**
+	 * Method to run the warm up round trips before the application is marked as
+	 * ready
+	 *
+	 * @param args {@link ApplicationArguments} object
+	 */
+	@Override
+	public void run(ApplicationArguments args) {
+		if (!Boolean.parseBoolean(AppProperties.strProperty("warmup.enabled"))) {
+			Log.info(this.getClass().getSimpleName(), "run", "warm up disabled...");
+			return;
+		}
+
+		AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+		PublicKey publicKey = servicePublicKey();
+		if (Objects.isNull(publicKey)) {
+			Log.warn(this.getClass().getSimpleName(), "run", "no certificate found for alias %s, warm up skipped",
+					AppProperties.strProperty("keystore.alias"));
+			return;
+		}
+
+		String channelId = AppProperties.strProperty("warmup.channel.id");
+		String data = syntheticData(AppProperties.intProperty("warmup.data.size"));
+		int iterations = AppProperties.intProperty("warmup.iterations");
+		long start = System.nanoTime();
+		long deadline = start + TimeUnit.SECONDS.toNanos(AppProperties.intProperty("warmup.duration.seconds"));
+		int completed = 0;
+
+		try {
+			applicationInit.scopePublicKey(channelId, publicKey);
+			for (; completed < iterations && System.nanoTime() < deadline; completed++)
+				roundTrip(channelId + completed, data);
+		} catch (AppException e) {
+			Log.warn(this.getClass().getSimpleName(), "run", "warm up stopped: %s", e.getDescription());
+		} catch (JsonProcessingException e) {
+			Log.warn(this.getClass().getSimpleName(), "run", "warm up stopped: %s", e.getMessage());
+		} finally {
+			applicationInit.clearScopedPublicKey();
+		}
+
+		Log.info(this.getClass().getSimpleName(), "run", "%s warm up round trip(s) completed in %s ms", completed,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+	}
+
+	/**
+	 * Method to register the instance as {@code UP} with Eureka once the
+	 * application accepts traffic
+	 *
+	 * @param event {@link AvailabilityChangeEvent} of the readiness state
+	 */
+	@EventListener
+	public void readinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+		if (ReadinessState.ACCEPTING_TRAFFIC.equals(event.getState()))
+			applicationInfoManager.ifAvailable(manager -> {
+				manager.setInstanceStatus(InstanceStatus.UP);
+				Log.info(this.getClass().getSimpleName(), "readinessChanged", "instance registered as UP...");
+			});
+	}
+
+	/**
+	 * Method to run a single round trip through the JSON and binary paths of
+	 * {@link EncryptionService}
+	 *
+	 * @param refNo Reference number starting with the synthetic channel id
+	 * @param data  Synthetic plain data
+	 * @throws AppException            Thrown when the round trip fails
+	 * @throws JsonProcessingException Thrown when the body cannot be mapped
+	 */
+	private void roundTrip(String refNo, String data) throws AppException, JsonProcessingException {
+		Encryption plainBody = json(
+				Encryption.getInstance(refNo, CommonUtility.getCurrentTimeStamp(), Codes.S00, data));
+		Encryption decrypted = encryptionService.decrypt(json(encryptionService.encrypt(plainBody)));
+
+		byte[] plainData = data.getBytes(StandardCharsets.UTF_8);
+		byte[] decryptedData = encryptionService.decrypt(encryptionService.encrypt(plainData, refNo), refNo);
+		if (!data.equals(decrypted.getData()) || !Arrays.equals(plainData, decryptedData))
+			throw AppException.getInstance("Warm up round trip mismatch", "Decrypted data differs from the plain data",
+					Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+
+	/**
+	 * Method to write and read a body with the {@link ObjectMapper} like a request
+	 * and response would be
+	 *
+	 * @param body {@link Encryption} body
+	 * @return {@link Encryption} body read back
+	 * @throws JsonProcessingException Thrown when the body cannot be mapped
+	 */
+	private Encryption json(Encryption body) throws JsonProcessingException {
+		return objectMapper.readValue(objectMapper.writeValueAsString(body), Encryption.class);
+	}
+
+	/**
+	 * Method to get the public key of the service certificate stored under the
+	 * alias mentioned in configurations with property 'keystore.alias'
+	 *
+	 * @return {@link PublicKey} of the service or {@code null} when no certificate
+	 *         is stored
+	 */
+	private PublicKey servicePublicKey() {
+		try {
+			Certificate certificate = applicationInit.keyStore()
+					.getCertificate(AppProperties.strProperty("keystore.alias"));
+			return Objects.isNull(certificate) ? null : certificate.getPublicKey();
+		} catch (KeyStoreException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * Method to build a synthetic JSON pay load of roughly the given size
+	 *
+	 * @param size Size of the pay load in characters
+	 * @return Synthetic JSON pay load
+	 */
+	private static String syntheticData(int size) {
+		StringBuilder data = new StringBuilder("{\"items\":[");
+		for (int i = 0; data.length() < size; i++)
+			data.append(i == 0 ? "" : ",").append("{\"id\":").append(i).append(",\"value\":\"warm-up-").append(i)
+					.append("\"}");
+		return data.append("]}").toString();
+	}
+}
@@ -19,6 +19,19 @@
  * <li>{@link com.encryption.config.ApplicationInit} - It is invoked during the
  * application startup phase, either manually or through a framework-specific
  * life cycle hook (e.g., {@code @PostConstruct} in Spring).</li>
+ * <li>{@link com.encryption.config.ChannelIndex} - Bounded index of the
+ * channels and their decoded public keys, loaded lazily</li>
+ * <li>{@link com.encryption.config.KeyRing} - Immutable snapshot of the keys
+ * extracted from one load of the key store</li>
+ * <li>{@link com.encryption.config.KeyStoreWatcher} - Reloads the key store as
+ * soon as its file changes</li>
+ * <li>{@link com.encryption.config.CryptoProviderSelector} - Benchmarks the
+ * {@code JCE} providers at startup and selects the fastest one per
+ * primitive</li>
+ * <li>{@link com.encryption.config.CryptoProvidersEndpoint} - Actuator
+ * endpoint exposing the selected providers</li>
+ * <li>{@link com.encryption.config.WarmUpRunner} - Warms up the encryption
+ * paths before the instance accepts traffic and registers with Eureka</li>
  * </ul>
  * 
  * 
@@ -0,0 +1,137 @@
+package com.encryption.crypto;
+
+import java.security.InvalidAlgorithmParameterException;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.spec.AlgorithmParameterSpec;
+import java.util.Objects;
+
+import javax.crypto.BadPaddingException;
+import javax.crypto.Cipher;
+import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.http.HttpStatus;
+
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+
+/**
+ * Base class of the {@link CipherSuite} implementations backed by a single
+ * {@code JCE} {@link Cipher} transformation supporting additional authenticated
+ * data.
+ *
+ * <p>
+ * Sub classes only describe the transformation, the key algorithm and the
+ * parameters built from the nonce, the {@link Cipher} itself is taken from
+ * {@link CryptoPrimitives}.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+public abstract class AeadCipherSuite implements CipherSuite {
+
+	/**
+	 * Method to get the {@link Cipher} transformation of the suite
+	 *
+	 * @return Cipher transformation
+	 */
+	protected abstract String transformation();
+
+	/**
+	 * Method to get the algorithm of the data keys of the suite
+	 *
+	 * @return Key algorithm
+	 */
+	protected abstract String keyAlgorithm();
+
+	/**
+	 * Method to build the cipher parameters from the nonce
+	 *
+	 * @param iv Nonce
+	 * @return {@link AlgorithmParameterSpec} of the suite
+	 */
+	protected abstract AlgorithmParameterSpec parameterSpec(byte[] iv);
+
+	@Override
+	public SecretKey key(byte[] key) {
+		return new SecretKeySpec(key, keyAlgorithm());
+	}
+
+	@Override
+	public byte[] encrypt(byte[] data, SecretKey key, byte[] iv, byte[] aad) throws AppException {
+		try {
+			return cipher(Cipher.ENCRYPT_MODE, key, iv, aad).doFinal(data);
+		} catch (NoSuchAlgorithmException e) {
+			throw AppException.getInstance("Invalid algorithm used while encrypting the data", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		} catch (NoSuchPaddingException e) {
+			throw AppException.getInstance("Padding mismatch while encrypting the data", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (InvalidKeyException e) {
+			throw AppException.getInstance("The key is invalid while encrypting the data", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw AppException.getInstance("Invalid IV used while encrypting the data", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (IllegalBlockSizeException e) {
+			throw AppException.getInstance("Data is too large while encrypting the data", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (BadPaddingException e) {
+			throw AppException.getInstance("Bad padding exception occured while encrypting the data", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		}
+	}
+
+	@Override
+	public byte[] decrypt(byte[] data, SecretKey key, byte[] iv, byte[] aad) throws AppException {
+		try {
+			return cipher(Cipher.DECRYPT_MODE, key, iv, aad).doFinal(data);
+		} catch (NoSuchAlgorithmException e) {
+			throw AppException.getInstance("Invalid algorithm used while decrypting the data", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		} catch (NoSuchPaddingException e) {
+			throw AppException.getInstance("Padding mismatch while decrypting the data", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (InvalidKeyException e) {
+			throw AppException.getInstance("The key is invalid while decrypting the data", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (IllegalBlockSizeException e) {
+			throw AppException.getInstance("Data is too large while decrypting the data", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (BadPaddingException e) {
+			throw AppException.getInstance("Bad padding exception occured while decrypting the data", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw AppException.getInstance("The Algorithm is invalid while decrypting the data", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		}
+	}
+
+	/**
+	 * Method to get a pooled {@link Cipher} initialized for the operation
+	 *
+	 * @param mode {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+	 * @param key  Data key
+	 * @param iv   Nonce
+	 * @param aad  Additional authenticated data or {@code null}
+	 * @return Initialized {@link Cipher}
+	 * @throws NoSuchAlgorithmException           Thrown when the transformation is
+	 *                                            invalid
+	 * @throws NoSuchPaddingException             Thrown when the padding scheme is
+	 *                                            invalid
+	 * @throws InvalidKeyException                Thrown when the key is invalid
+	 * @throws InvalidAlgorithmParameterException Thrown when the nonce is invalid
+	 */
+	private Cipher cipher(int mode, SecretKey key, byte[] iv, byte[] aad) throws NoSuchAlgorithmException,
+			NoSuchPaddingException, InvalidKeyException, InvalidAlgorithmParameterException {
+		Cipher cipher = CryptoPrimitives.cipher(transformation());
+		cipher.init(mode, keyAlgorithm().equals(key.getAlgorithm()) ? key : key(key.getEncoded()), parameterSpec(iv));
+		if (Objects.nonNull(aad))
+			cipher.updateAAD(aad);
+		return cipher;
+	}
+}
@@ -0,0 +1,63 @@
+package com.encryption.crypto;
+
+import java.security.spec.AlgorithmParameterSpec;
+
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.springframework.stereotype.Component;
+
+import com.utilities.property.AppProperties;
+
+/**
+ * {@link CipherSuite} encrypting with {@code AES} in {@code GCM} mode using the
+ * transformation mentioned in configurations with property 'aes.algorithm'.
+ *
+ * <p>
+ * It is the default suite, used when the envelope header names no suite and
+ * always used by the {@code v1} format.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html">
+ *      Component </a>
+ * @author Kabir Akware
+ */
+@Component
+public class AesGcmCipherSuite extends AeadCipherSuite {
+
+	/**
+	 * Name of the suite
+	 */
+	public static final String NAME = "AES-GCM";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int keySize() {
+		return AppProperties.intProperty("data.key.size");
+	}
+
+	@Override
+	public int ivLength() {
+		return 12;
+	}
+
+	@Override
+	protected String transformation() {
+		return AppProperties.strProperty("aes.algorithm");
+	}
+
+	@Override
+	protected String keyAlgorithm() {
+		return AppProperties.strProperty("aes.instance");
+	}
+
+	@Override
+	protected AlgorithmParameterSpec parameterSpec(byte[] iv) {
+		return new GCMParameterSpec(AppProperties.intProperty("gcm.length"), iv);
+	}
+}
@@ -0,0 +1,64 @@
+package com.encryption.crypto;
+
+import java.security.spec.AlgorithmParameterSpec;
+
+import javax.crypto.spec.IvParameterSpec;
+
+import org.springframework.stereotype.Component;
+
+import com.utilities.property.AppProperties;
+
+/**
+ * {@link CipherSuite} encrypting with {@code ChaCha20-Poly1305} using the
+ * transformation mentioned in configurations with property 'chacha.algorithm'.
+ *
+ * <p>
+ * The suite runs in constant time without hardware support, making it faster
+ * than {@code AES/GCM} on hosts without {@code AES-NI}. It always uses a
+ * {@code 256} bit key and a {@code 96} bit nonce.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html">
+ *      Component </a>
+ * @author Kabir Akware
+ */
+@Component
+public class ChaCha20Poly1305CipherSuite extends AeadCipherSuite {
+
+	/**
+	 * Name of the suite
+	 */
+	public static final String NAME = "ChaCha20-Poly1305";
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public int keySize() {
+		return 256;
+	}
+
+	@Override
+	public int ivLength() {
+		return 12;
+	}
+
+	@Override
+	protected String transformation() {
+		return AppProperties.strProperty("chacha.algorithm");
+	}
+
+	@Override
+	protected String keyAlgorithm() {
+		return AppProperties.strProperty("chacha.instance");
+	}
+
+	@Override
+	protected AlgorithmParameterSpec parameterSpec(byte[] iv) {
+		return new IvParameterSpec(iv);
+	}
+}
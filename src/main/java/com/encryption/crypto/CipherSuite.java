@@ -0,0 +1,76 @@
+package com.encryption.crypto;
+
+import javax.crypto.SecretKey;
+
+import com.encryption.exception.AppException;
+
+/**
+ * This Interface defines the contract for an authenticated cipher suite used to
+ * encrypt and decrypt the pay load of an envelope.
+ *
+ * <p>
+ * Implementations are registered in {@link CipherSuiteRegistry} under their
+ * name, which is recorded in the envelope header so the receiver uses the same
+ * suite.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+public interface CipherSuite {
+
+	/**
+	 * Declaration of {@code getName} method for the name of the suite recorded in
+	 * the envelope header
+	 *
+	 * @return Name of the suite
+	 */
+	String getName();
+
+	/**
+	 * Declaration of {@code keySize} method for the size of the data key in bits
+	 *
+	 * @return Key size in bits
+	 */
+	int keySize();
+
+	/**
+	 * Declaration of {@code ivLength} method for the length of the nonce in bytes
+	 *
+	 * @return Nonce length in bytes
+	 */
+	int ivLength();
+
+	/**
+	 * Declaration of {@code key} method for building the data key of the suite
+	 * from raw key bytes
+	 *
+	 * @param key Raw key bytes
+	 * @return {@link SecretKey} for the suite
+	 */
+	SecretKey key(byte[] key);
+
+	/**
+	 * Declaration of {@code encrypt} method for encrypting the data
+	 *
+	 * @param data Plain data bytes
+	 * @param key  Data key
+	 * @param iv   Nonce unique for the key
+	 * @param aad  Additional authenticated data or {@code null}
+	 * @return Encrypted data with the authentication tag
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	byte[] encrypt(byte[] data, SecretKey key, byte[] iv, byte[] aad) throws AppException;
+
+	/**
+	 * Declaration of {@code decrypt} method for decrypting the data
+	 *
+	 * @param data Encrypted data with the authentication tag
+	 * @param key  Data key
+	 * @param iv   Nonce used while encrypting
+	 * @param aad  Additional authenticated data or {@code null}
+	 * @return Decrypted data bytes
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	byte[] decrypt(byte[] data, SecretKey key, byte[] iv, byte[] aad) throws AppException;
+}
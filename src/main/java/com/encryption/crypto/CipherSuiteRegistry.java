@@ -0,0 +1,89 @@
+package com.encryption.crypto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+/**
+ * This class holds every {@link CipherSuite} bean by name and selects the suite
+ * used for a channel.
+ *
+ * <p>
+ * The suite of a channel is mentioned in configurations with property
+ * 'cipher.suite.&lt;channel id&gt;', falling back to property
+ * 'cipher.suite.default'. Data received from a channel is decrypted with the
+ * suite named in the envelope header, {@link AesGcmCipherSuite} when none is
+ * named.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html">
+ *      Component </a>
+ * @author Kabir Akware
+ */
+@Component
+public class CipherSuiteRegistry {
+
+	/**
+	 * Cipher suites by name
+	 */
+	private final Map<String, CipherSuite> suites;
+
+	/**
+	 * Constructor registering the cipher suite beans
+	 *
+	 * @param cipherSuites {@link CipherSuite} beans
+	 */
+	public CipherSuiteRegistry(List<CipherSuite> cipherSuites) {
+		this.suites = cipherSuites.stream()
+				.collect(Collectors.toUnmodifiableMap(CipherSuite::getName, Function.identity()));
+		Log.info(this.getClass().getSimpleName(), "CipherSuiteRegistry", "cipher suite(s) registered: %s...",
+				suites.keySet());
+	}
+
+	/**
+	 * Method to get the cipher suite named in an envelope header
+	 *
+	 * @param name Name of the suite, {@code null} for the default suite
+	 * @return {@link CipherSuite} with the given name
+	 * @throws AppException Thrown when the name is not supported
+	 */
+	public CipherSuite suite(String name) throws AppException {
+		CipherSuite suite = suites.get(Objects.isNull(name) ? AesGcmCipherSuite.NAME : name);
+		if (Objects.isNull(suite))
+			throw AppException.getInstance("Unsupported cipher suite: " + name, "Pass a supported cipher suite",
+					Codes.ERR01, HttpStatus.BAD_REQUEST);
+		return suite;
+	}
+
+	/**
+	 * Method to get the cipher suite configured for a channel
+	 *
+	 * @param channelId Channel id
+	 * @return {@link CipherSuite} of the channel
+	 * @throws AppException Thrown when the configured suite is not supported
+	 */
+	public CipherSuite channelSuite(String channelId) throws AppException {
+		String name = AppProperties.strProperty("cipher.suite." + channelId);
+		if (Objects.isNull(name) || name.isBlank())
+			name = AppProperties.strProperty("cipher.suite.default");
+
+		CipherSuite suite = suites.get(Objects.isNull(name) || name.isBlank() ? AesGcmCipherSuite.NAME : name.trim());
+		if (Objects.isNull(suite))
+			throw AppException.getInstance("Unsupported cipher suite configured: " + name,
+					"Configure a supported cipher suite for channel " + channelId, Codes.ERR01,
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		return suite;
+	}
+}
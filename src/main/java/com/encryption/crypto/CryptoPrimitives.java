@@ -0,0 +1,342 @@
+package com.encryption.crypto;
+
+import java.security.KeyFactory;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+import java.security.SecureRandom;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.Cipher;
+import javax.crypto.KeyAgreement;
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKeyFactory;
+
+import com.utilities.log.Log;
+
+/**
+ * The {@code CryptoPrimitives} class keeps a per-thread pool of {@code JCE}
+ * primitives keyed by algorithm name so the provider lookup done by
+ * {@code getInstance} happens once per thread and algorithm instead of once per
+ * operation.
+ *
+ * <p>
+ * Instances are handed out to the calling thread only, so no synchronization is
+ * needed. Every primitive is reset before it is used again:
+ * </p>
+ * <ul>
+ * <li>{@link Cipher}, {@link Signature}, {@link KeyGenerator},
+ * {@link KeyPairGenerator}, {@link KeyAgreement} and {@link Mac} are reset by
+ * the {@code init} call that every caller performs before using them.</li>
+ * <li>{@link MessageDigest} is reset by this class before it is handed
+ * out.</li>
+ * <li>{@link KeyFactory} and {@link SecretKeyFactory} hold no per-operation
+ * state.</li>
+ * <li>{@link SecureRandom} is seeded by the provider on first use and keeps
+ * generating from its own state, so each thread owns an independent
+ * generator without contention.</li>
+ * </ul>
+ *
+ * <p>
+ * Callers must not hold an instance across a call that may ask for the same
+ * algorithm on the same thread. The pool is keyed by the algorithm names read
+ * from configurations, and {@link #invalidate()} drops the cached instances of
+ * every thread when the configurations are reloaded.
+ * </p>
+ *
+ * <p>
+ * {@link Cipher}, {@link Signature} and {@link SecretKeyFactory} instances are
+ * taken from the {@link Provider} selected for their algorithm with
+ * {@link #useProviders(Map)}, falling back to the default provider resolution
+ * for algorithms without a selection.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+public final class CryptoPrimitives {
+
+	/**
+	 * Generation of the pool, incremented whenever the configurations are
+	 * reloaded
+	 */
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	/**
+	 * Primitives cached for the current thread
+	 */
+	private static final ThreadLocal<Primitives> PRIMITIVES = ThreadLocal.withInitial(Primitives::new);
+
+	/**
+	 * Providers selected per primitive, keyed by {@code <type>.<algorithm>}
+	 */
+	private static volatile Map<String, Provider> providers = Map.of();
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private CryptoPrimitives() {
+	}
+
+	/**
+	 * Method to get a pooled {@link Cipher} for the current thread
+	 *
+	 * @param algorithm Cipher transformation
+	 * @return {@link Cipher} instance that must be initialized before use
+	 * @throws NoSuchAlgorithmException Thrown when the transformation is invalid
+	 * @throws NoSuchPaddingException   Thrown when the padding scheme is invalid
+	 */
+	public static Cipher cipher(String algorithm) throws NoSuchAlgorithmException, NoSuchPaddingException {
+		Map<String, Cipher> ciphers = primitives().ciphers;
+		Cipher cipher = ciphers.get(algorithm);
+		if (Objects.isNull(cipher)) {
+			Provider provider = provider("Cipher", algorithm);
+			cipher = Objects.isNull(provider) ? Cipher.getInstance(algorithm) : Cipher.getInstance(algorithm, provider);
+			ciphers.put(algorithm, cipher);
+		}
+		return cipher;
+	}
+
+	/**
+	 * Method to get a pooled {@link Signature} for the current thread
+	 *
+	 * @param algorithm Signature algorithm
+	 * @return {@link Signature} instance that must be initialized before use
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static Signature signature(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, Signature> signatures = primitives().signatures;
+		Signature signature = signatures.get(algorithm);
+		if (Objects.isNull(signature)) {
+			Provider provider = provider("Signature", algorithm);
+			signature = Objects.isNull(provider) ? Signature.getInstance(algorithm)
+					: Signature.getInstance(algorithm, provider);
+			signatures.put(algorithm, signature);
+		}
+		return signature;
+	}
+
+	/**
+	 * Method to get a pooled and reset {@link MessageDigest} for the current
+	 * thread
+	 *
+	 * @param algorithm Digest algorithm
+	 * @return {@link MessageDigest} instance ready for use
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static MessageDigest messageDigest(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, MessageDigest> digests = primitives().digests;
+		MessageDigest digest = digests.get(algorithm);
+		if (Objects.isNull(digest)) {
+			digest = MessageDigest.getInstance(algorithm);
+			digests.put(algorithm, digest);
+		}
+		digest.reset();
+		return digest;
+	}
+
+	/**
+	 * Method to get a pooled {@link KeyFactory} for the current thread
+	 *
+	 * @param algorithm Key algorithm
+	 * @return {@link KeyFactory} instance
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static KeyFactory keyFactory(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, KeyFactory> keyFactories = primitives().keyFactories;
+		KeyFactory keyFactory = keyFactories.get(algorithm);
+		if (Objects.isNull(keyFactory)) {
+			keyFactory = KeyFactory.getInstance(algorithm);
+			keyFactories.put(algorithm, keyFactory);
+		}
+		return keyFactory;
+	}
+
+	/**
+	 * Method to get a pooled {@link SecretKeyFactory} for the current thread
+	 *
+	 * @param algorithm Secret key algorithm
+	 * @return {@link SecretKeyFactory} instance
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static SecretKeyFactory secretKeyFactory(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, SecretKeyFactory> secretKeyFactories = primitives().secretKeyFactories;
+		SecretKeyFactory secretKeyFactory = secretKeyFactories.get(algorithm);
+		if (Objects.isNull(secretKeyFactory)) {
+			Provider provider = provider("SecretKeyFactory", algorithm);
+			secretKeyFactory = Objects.isNull(provider) ? SecretKeyFactory.getInstance(algorithm)
+					: SecretKeyFactory.getInstance(algorithm, provider);
+			secretKeyFactories.put(algorithm, secretKeyFactory);
+		}
+		return secretKeyFactory;
+	}
+
+	/**
+	 * Method to get a pooled {@link KeyGenerator} for the current thread
+	 *
+	 * @param algorithm Key algorithm
+	 * @return {@link KeyGenerator} instance that must be initialized before use
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static KeyGenerator keyGenerator(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, KeyGenerator> keyGenerators = primitives().keyGenerators;
+		KeyGenerator keyGenerator = keyGenerators.get(algorithm);
+		if (Objects.isNull(keyGenerator)) {
+			keyGenerator = KeyGenerator.getInstance(algorithm);
+			keyGenerators.put(algorithm, keyGenerator);
+		}
+		return keyGenerator;
+	}
+
+	/**
+	 * Method to get a pooled {@link KeyPairGenerator} for the current thread
+	 *
+	 * @param algorithm Key algorithm
+	 * @return {@link KeyPairGenerator} instance that must be initialized before
+	 *         use
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static KeyPairGenerator keyPairGenerator(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, KeyPairGenerator> keyPairGenerators = primitives().keyPairGenerators;
+		KeyPairGenerator keyPairGenerator = keyPairGenerators.get(algorithm);
+		if (Objects.isNull(keyPairGenerator)) {
+			keyPairGenerator = KeyPairGenerator.getInstance(algorithm);
+			keyPairGenerators.put(algorithm, keyPairGenerator);
+		}
+		return keyPairGenerator;
+	}
+
+	/**
+	 * Method to get a pooled {@link KeyAgreement} for the current thread
+	 *
+	 * @param algorithm Key agreement algorithm
+	 * @return {@link KeyAgreement} instance that must be initialized before use
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static KeyAgreement keyAgreement(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, KeyAgreement> keyAgreements = primitives().keyAgreements;
+		KeyAgreement keyAgreement = keyAgreements.get(algorithm);
+		if (Objects.isNull(keyAgreement)) {
+			keyAgreement = KeyAgreement.getInstance(algorithm);
+			keyAgreements.put(algorithm, keyAgreement);
+		}
+		return keyAgreement;
+	}
+
+	/**
+	 * Method to get a pooled {@link Mac} for the current thread
+	 *
+	 * @param algorithm Mac algorithm
+	 * @return {@link Mac} instance that must be initialized before use
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static Mac mac(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, Mac> macs = primitives().macs;
+		Mac mac = macs.get(algorithm);
+		if (Objects.isNull(mac)) {
+			mac = Mac.getInstance(algorithm);
+			macs.put(algorithm, mac);
+		}
+		return mac;
+	}
+
+	/**
+	 * Method to get a pooled {@link SecureRandom} for the current thread
+	 *
+	 * @param algorithm Random number generator algorithm
+	 * @return {@link SecureRandom} instance ready for use
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 */
+	public static SecureRandom secureRandom(String algorithm) throws NoSuchAlgorithmException {
+		Map<String, SecureRandom> secureRandoms = primitives().secureRandoms;
+		SecureRandom secureRandom = secureRandoms.get(algorithm);
+		if (Objects.isNull(secureRandom)) {
+			secureRandom = SecureRandom.getInstance(algorithm);
+			secureRandoms.put(algorithm, secureRandom);
+		}
+		return secureRandom;
+	}
+
+	/**
+	 * Method to select the providers used for the primitives and drop the
+	 * instances created from the previous selection
+	 *
+	 * @param selected Providers keyed by {@code <type>.<algorithm>}, e.g.
+	 *                 {@code Cipher.AES/GCM/NoPadding}
+	 */
+	public static void useProviders(Map<String, Provider> selected) {
+		providers = Map.copyOf(selected);
+		invalidate();
+	}
+
+	/**
+	 * Method to get the provider selected for a primitive
+	 *
+	 * @param type      Primitive type, e.g. {@code Cipher}
+	 * @param algorithm Algorithm of the primitive
+	 * @return Selected {@link Provider} or {@code null} for the default provider
+	 *         resolution
+	 */
+	private static Provider provider(String type, String algorithm) {
+		return providers.get(type + "." + algorithm);
+	}
+
+	/**
+	 * Method to drop the primitives cached by every thread. Each thread discards
+	 * its instances lazily on its next lookup.
+	 */
+	public static void invalidate() {
+		GENERATION.incrementAndGet();
+		Log.info(CryptoPrimitives.class.getSimpleName(), "invalidate", "crypto primitive pool invalidated");
+	}
+
+	/**
+	 * Method to get the primitives of the current thread, discarding them if they
+	 * belong to an older generation
+	 *
+	 * @return {@link Primitives} of the current thread
+	 */
+	private static Primitives primitives() {
+		Primitives primitives = PRIMITIVES.get();
+		if (primitives.generation != GENERATION.get()) {
+			primitives = new Primitives();
+			PRIMITIVES.set(primitives);
+		}
+		return primitives;
+	}
+
+	/**
+	 * Holder of the primitives cached by a single thread
+	 */
+	private static final class Primitives {
+
+		private final int generation = GENERATION.get();
+
+		private final Map<String, Cipher> ciphers = new HashMap<>();
+
+		private final Map<String, Signature> signatures = new HashMap<>();
+
+		private final Map<String, MessageDigest> digests = new HashMap<>();
+
+		private final Map<String, KeyFactory> keyFactories = new HashMap<>();
+
+		private final Map<String, SecretKeyFactory> secretKeyFactories = new HashMap<>();
+
+		private final Map<String, KeyGenerator> keyGenerators = new HashMap<>();
+
+		private final Map<String, KeyPairGenerator> keyPairGenerators = new HashMap<>();
+
+		private final Map<String, KeyAgreement> keyAgreements = new HashMap<>();
+
+		private final Map<String, Mac> macs = new HashMap<>();
+
+		private final Map<String, SecureRandom> secureRandoms = new HashMap<>();
+	}
+}
@@ -0,0 +1,394 @@
+package com.encryption.crypto;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+
+import com.encryption.exception.AppException;
+import com.encryption.utility.CommonUtility;
+import com.model.enums.Codes;
+import com.utilities.property.AppProperties;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * The {@code Envelope} class represents the versioned {@code v2} pay load
+ * exchanged by the encryption and decryption operations.
+ *
+ * <p>
+ * Unlike the {@code v1} format, where a random password and salt are wrapped
+ * with {@code RSA} and stretched with {@code PBKDF2} on both sides, a
+ * {@code v2} envelope carries a random raw {@code AES} data key wrapped with
+ * {@code RSA-OAEP} or {@code ECDH-ES}, so no password based key derivation is
+ * needed.
+ * </p>
+ *
+ * <p>
+ * The textual form is a period(.) separated string of {@code Base64} encoded
+ * segments prefixed with the version tag:
+ * </p>
+ *
+ * <pre>
+ * v2.{wrapped key}.{iv}.{signature}.{cipher text}
+ * </pre>
+ *
+ * <p>
+ * The header may carry semicolon(;) separated attributes after the version tag
+ * describing how the envelope was built, e.g. {@code v2;sig=ES256;kw=ECDH-ES}
+ * for an envelope signed with {@code ECDSA} whose data key is agreed with
+ * {@code ECDH-ES}, or {@code v2;enc=ChaCha20-Poly1305} for data encrypted with
+ * {@code ChaCha20-Poly1305}, or {@code zip=DEF} for data compressed before
+ * the encryption, or {@code kid={key id}} for a data key wrapped for a
+ * certificate of the service other than the current one, or {@code dk={id}}
+ * for a data key reused across several envelopes, or
+ * {@code kw=A256KW;kek={id}} for a data key wrapped under the key encryption
+ * key of the channel. An envelope without
+ * attributes uses the defaults.
+ * </p>
+ *
+ * <p>
+ * A pay load small enough for the {@code RSA} key of the recipient is sent as
+ * {@code v2;mode=RSA} with the data encrypted directly with {@code RSA-OAEP}
+ * in the cipher text segment, leaving the wrapped key and iv segments empty.
+ * </p>
+ *
+ * <p>
+ * The binary form served for {@code application/octet-stream} carries the same
+ * segments as raw bytes, each prefixed with its length, avoiding the
+ * {@code Base64} overhead and the string splitting:
+ * </p>
+ *
+ * <pre>
+ * header length(2) | header | key length(2) | wrapped key | iv length(1) | iv
+ * | signature length(2) | signature | cipher length(4) | cipher text
+ * </pre>
+ *
+ * <p>
+ * The header is passed to the cipher suite as additional authenticated data so
+ * neither the version nor the attributes can be altered without failing the
+ * decryption. A {@code mode=RSA} envelope has no cipher suite, its header only
+ * selects the private key and the signature algorithm, both checked while
+ * decrypting.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@Setter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class Envelope {
+
+	/**
+	 * Version tag of the envelope
+	 */
+	public static final String V2 = "v2";
+
+	/**
+	 * Header attribute naming the {@link SignatureAlgorithm} of the signature
+	 */
+	public static final String SIGNATURE_ALGORITHM = "sig";
+
+	/**
+	 * Header attribute naming the {@link KeyWrapAlgorithm} of the wrapped key
+	 */
+	public static final String KEY_WRAP_ALGORITHM = "kw";
+
+	/**
+	 * Header attribute naming the {@link CipherSuite} of the encrypted data
+	 */
+	public static final String CIPHER_SUITE = "enc";
+
+	/**
+	 * Header attribute naming the compression applied before the encryption
+	 */
+	public static final String COMPRESSION = "zip";
+
+	/**
+	 * Header attribute naming the key id of the service key the data key is
+	 * wrapped for
+	 */
+	public static final String KEY_ID = "kid";
+
+	/**
+	 * Header attribute naming the id of a data key reused across envelopes
+	 */
+	public static final String DATA_KEY_ID = "dk";
+
+	/**
+	 * Header attribute naming the key encryption key of the channel the data key
+	 * is wrapped under
+	 */
+	public static final String KEK_ID = "kek";
+
+	/**
+	 * Header attribute naming how the data is encrypted, absent for a data key
+	 * wrapped for the channel
+	 */
+	public static final String MODE = "mode";
+
+	/**
+	 * Value of {@link #MODE} for data encrypted directly with {@code RSA-OAEP}
+	 */
+	public static final String MODE_RSA = "RSA";
+
+	/**
+	 * Number of period(.) separated segments in a {@code v2} envelope
+	 */
+	private static final int V2_SEGMENTS = 5;
+
+	/**
+	 * Maximum length of a segment prefixed with an unsigned short
+	 */
+	private static final int MAX_SHORT_SEGMENT = 0xFFFF;
+
+	/**
+	 * Maximum length of a segment prefixed with an unsigned byte
+	 */
+	private static final int MAX_BYTE_SEGMENT = 0xFF;
+
+	/**
+	 * Separator of the header attributes
+	 */
+	private static final String ATTRIBUTE_SEPARATOR = ";";
+
+	/**
+	 * Separator of the name and value of a header attribute
+	 */
+	private static final String VALUE_SEPARATOR = "=";
+
+	/**
+	 * Version tag of the envelope
+	 */
+	private String version;
+
+	/**
+	 * Header attributes in the order they were set
+	 */
+	private Map<String, String> attributes;
+
+	/**
+	 * {@code RSA} wrapped data key
+	 */
+	private byte[] wrappedKey;
+
+	/**
+	 * Initialization Vector (IV) used for {@code AES/GCM}
+	 */
+	private byte[] iv;
+
+	/**
+	 * Digital signature of the plain data
+	 */
+	private byte[] signature;
+
+	/**
+	 * Encrypted data
+	 */
+	private byte[] cipherText;
+
+	/**
+	 * Method to get a new {@code v2} instance of {@link Envelope}. The header is
+	 * available right away so it can be authenticated while encrypting, the
+	 * remaining segments are set once they are computed.
+	 *
+	 * @return New instance of {@link Envelope}
+	 */
+	public static Envelope getInstance() {
+		return new Envelope(V2, new LinkedHashMap<>(), null, null, null, null);
+	}
+
+	/**
+	 * Method to get the value of a header attribute
+	 *
+	 * @param name Name of the attribute
+	 * @return Value of the attribute or {@code null} if it is not set
+	 */
+	public String attribute(String name) {
+		return attributes.get(name);
+	}
+
+	/**
+	 * Method to set a header attribute. Attributes must be set before the header
+	 * is authenticated while encrypting.
+	 *
+	 * @param name  Name of the attribute
+	 * @param value Value of the attribute
+	 */
+	public void attribute(String name, String value) {
+		attributes.put(name, value);
+	}
+
+	/**
+	 * Method to build the header from the version tag and the attributes
+	 *
+	 * @return Header string
+	 */
+	public String header() {
+		StringBuilder header = new StringBuilder(version);
+		attributes.forEach((name, value) -> header.append(ATTRIBUTE_SEPARATOR).append(name).append(VALUE_SEPARATOR)
+				.append(value));
+		return header.toString();
+	}
+
+	/**
+	 * Method to get the additional authenticated data bound to the cipher text
+	 *
+	 * @return Header bytes used as {@code AES/GCM} additional authenticated data
+	 */
+	public byte[] aad() {
+		return header().getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Method to encode the envelope in its textual form
+	 *
+	 * @return Period(.) separated envelope string
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public String encode() throws AppException {
+		String period = AppProperties.strProperty("period");
+		return new StringBuilder().append(header()).append(period).append(CommonUtility.encodedString(wrappedKey))
+				.append(period).append(CommonUtility.encodedString(iv)).append(period)
+				.append(CommonUtility.encodedString(signature)).append(period)
+				.append(CommonUtility.encodedString(cipherText)).toString();
+	}
+
+	/**
+	 * Method to check whether the data is a versioned envelope. {@code v1} pay
+	 * loads are plain {@code Base64} and never contain a period(.) or a
+	 * semicolon(;)
+	 *
+	 * @param data Encrypted data passed in the request
+	 * @return Boolean value determining whether the data is a {@code v2} envelope
+	 */
+	public static boolean isVersioned(String data) {
+		return data.startsWith(V2 + AppProperties.strProperty("period")) || data.startsWith(V2 + ATTRIBUTE_SEPARATOR);
+	}
+
+	/**
+	 * Method to parse the textual form of a {@code v2} envelope
+	 *
+	 * @param data Period(.) separated envelope string
+	 * @return Parsed {@link Envelope}
+	 * @throws AppException Thrown when the data is not a valid envelope
+	 */
+	public static Envelope parse(String data) throws AppException {
+		String[] segments = CommonUtility.splitString(data, V2_SEGMENTS);
+		Envelope envelope = fromHeader(segments[0]);
+		envelope.setWrappedKey(CommonUtility.decode(segments[1]));
+		envelope.setIv(CommonUtility.decode(segments[2]));
+		envelope.setSignature(CommonUtility.decode(segments[3]));
+		envelope.setCipherText(CommonUtility.decode(segments[4]));
+		return envelope;
+	}
+
+	/**
+	 * Method to encode the envelope in its length-prefixed binary form
+	 *
+	 * @return Binary envelope
+	 * @throws AppException Thrown when a segment is too long for its length
+	 *                      prefix
+	 */
+	public byte[] toBytes() throws AppException {
+		byte[] header = aad();
+		checkLength("header", header, MAX_SHORT_SEGMENT);
+		checkLength("wrapped key", wrappedKey, MAX_SHORT_SEGMENT);
+		checkLength("iv", iv, MAX_BYTE_SEGMENT);
+		checkLength("signature", signature, MAX_SHORT_SEGMENT);
+		return ByteBuffer
+				.allocate(Short.BYTES + header.length + Short.BYTES + wrappedKey.length + Byte.BYTES + iv.length
+						+ Short.BYTES + signature.length + Integer.BYTES + cipherText.length)
+				.putShort((short) header.length).put(header).putShort((short) wrappedKey.length).put(wrappedKey)
+				.put((byte) iv.length).put(iv).putShort((short) signature.length).put(signature)
+				.putInt(cipherText.length).put(cipherText).array();
+	}
+
+	/**
+	 * Method to check that a segment fits the unsigned length prefix of the
+	 * binary form, so it is never truncated into a frame that cannot be parsed
+	 *
+	 * @param name      Name of the segment
+	 * @param segment   Segment bytes
+	 * @param maxLength Largest length the prefix can carry
+	 * @throws AppException Thrown when the segment is too long
+	 */
+	private static void checkLength(String name, byte[] segment, int maxLength) throws AppException {
+		if (segment.length > maxLength)
+			throw AppException.getInstance("Binary envelope " + name + " too long: " + segment.length + " bytes",
+					"Request the encrypted data as JSON", Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+
+	/**
+	 * Method to parse the length-prefixed binary form of an envelope
+	 *
+	 * @param data Binary envelope
+	 * @return Parsed {@link Envelope}
+	 * @throws AppException Thrown when the data is not a valid envelope
+	 */
+	public static Envelope fromBytes(byte[] data) throws AppException {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(data);
+			Envelope envelope = fromHeader(
+					new String(segment(buffer, Short.toUnsignedInt(buffer.getShort())), StandardCharsets.UTF_8));
+			envelope.setWrappedKey(segment(buffer, Short.toUnsignedInt(buffer.getShort())));
+			envelope.setIv(segment(buffer, Byte.toUnsignedInt(buffer.get())));
+			envelope.setSignature(segment(buffer, Short.toUnsignedInt(buffer.getShort())));
+			envelope.setCipherText(segment(buffer, buffer.getInt()));
+			if (buffer.hasRemaining())
+				throw AppException.getInstance("Unexpected data after cipher text", "Pass a valid binary envelope",
+						Codes.ERR01, HttpStatus.BAD_REQUEST);
+			return envelope;
+		} catch (BufferUnderflowException | IllegalArgumentException e) {
+			throw AppException.getInstance("Binary envelope is incomplete", "Pass a valid binary envelope",
+					Codes.ERR01, HttpStatus.BAD_REQUEST);
+		}
+	}
+
+	/**
+	 * Method to parse the header of an envelope into a new {@link Envelope} with
+	 * the version tag and attributes set
+	 *
+	 * @param header Header string
+	 * @return {@link Envelope} without the remaining segments
+	 * @throws AppException Thrown when the version or an attribute is invalid
+	 */
+	private static Envelope fromHeader(String header) throws AppException {
+		String[] parts = header.split(ATTRIBUTE_SEPARATOR);
+		if (!V2.equals(parts[0]))
+			throw AppException.getInstance("Unsupported envelope version: " + parts[0],
+					"Pass a supported envelope version", Codes.ERR01, HttpStatus.BAD_REQUEST);
+
+		Envelope envelope = getInstance();
+		for (int i = 1; i < parts.length; i++) {
+			String[] attribute = parts[i].split(VALUE_SEPARATOR, 2);
+			if (attribute.length != 2 || attribute[0].isEmpty())
+				throw AppException.getInstance("Invalid envelope header attribute: " + parts[i],
+						"Pass attributes as name=value", Codes.ERR01, HttpStatus.BAD_REQUEST);
+			envelope.attribute(attribute[0], attribute[1]);
+		}
+		return envelope;
+	}
+
+	/**
+	 * Method to read a length-prefixed segment from the buffer
+	 *
+	 * @param buffer {@link ByteBuffer} positioned at the segment
+	 * @param length Length of the segment
+	 * @return Segment bytes
+	 */
+	private static byte[] segment(ByteBuffer buffer, int length) {
+		if (length < 0 || length > buffer.remaining())
+			throw new BufferUnderflowException();
+		byte[] segment = new byte[length];
+		buffer.get(segment);
+		return segment;
+	}
+}
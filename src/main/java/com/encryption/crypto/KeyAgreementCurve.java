@@ -0,0 +1,103 @@
+package com.encryption.crypto;
+
+import java.security.Key;
+import java.security.interfaces.XECKey;
+import java.security.spec.AlgorithmParameterSpec;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.NamedParameterSpec;
+
+import org.springframework.http.HttpStatus;
+
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+import com.utilities.property.AppProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The {@code KeyAgreementCurve} enum lists the curves of the key agreement
+ * keys used by {@link KeyWrapAlgorithm#ECDH_ES}.
+ *
+ * <p>
+ * Key agreement keys are kept apart from the signing and verification keys:
+ * a channel registers its key agreement key separately from its public key,
+ * and the service unwraps with its own key of the curve, read from the key
+ * store under the alias mentioned in configurations for the curve. The curve
+ * of a wrapped key follows the type of the ephemeral key it carries.
+ * </p>
+ *
+ * <ul>
+ * <li>{@link #P256} - {@code EC} keys on the {@code P-256} curve, agreed with
+ * property 'ecdh.instance'</li>
+ * <li>{@link #X25519} - {@code X25519} keys, agreed with property
+ * 'xdh.instance'</li>
+ * </ul>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@AllArgsConstructor
+public enum KeyAgreementCurve {
+
+	P256("EC", new ECGenParameterSpec("secp256r1"), "ecdh.instance", "keystore.ecdh.alias"),
+
+	X25519("XDH", NamedParameterSpec.X25519, "xdh.instance", "keystore.x25519.alias");
+
+	/**
+	 * Key factory and key pair generator algorithm of the keys on the curve
+	 */
+	private final String keyAlgorithm;
+
+	/**
+	 * Parameters generating the ephemeral keys on the curve
+	 */
+	private final AlgorithmParameterSpec parameterSpec;
+
+	/**
+	 * Property holding the {@code KeyAgreement} instance name
+	 */
+	private final String instanceProperty;
+
+	/**
+	 * Property holding the key store alias of the service key agreement key
+	 */
+	private final String aliasProperty;
+
+	/**
+	 * Method to get the {@code KeyAgreement} instance name mentioned in
+	 * configurations
+	 *
+	 * @return Key agreement instance name
+	 */
+	public String instance() {
+		return AppProperties.strProperty(instanceProperty);
+	}
+
+	/**
+	 * Method to get the curve of a key agreement key. {@code EC} keys must be on
+	 * the {@code P-256} curve and {@code XDH} keys on {@code X25519}.
+	 *
+	 * @param key Public or private key
+	 * @return {@link KeyAgreementCurve} of the key
+	 * @throws AppException Thrown when the key type or curve is not supported
+	 */
+	public static KeyAgreementCurve of(Key key) throws AppException {
+		return switch (key.getAlgorithm()) {
+		case "EC" -> {
+			SignatureAlgorithm.of(key);
+			yield P256;
+		}
+		case "XDH", "X25519" -> {
+			if (key instanceof XECKey xecKey && xecKey.getParams() instanceof NamedParameterSpec spec
+					&& NamedParameterSpec.X25519.getName().equalsIgnoreCase(spec.getName()))
+				yield X25519;
+			throw AppException.getInstance("Unsupported XDH curve", "Pass an XDH key on the X25519 curve",
+					Codes.ERR01, HttpStatus.BAD_REQUEST);
+		}
+		default -> throw AppException.getInstance("Key agreement is not supported for " + key.getAlgorithm() + " keys",
+				"Pass an EC (P-256) or X25519 key", Codes.ERR04, HttpStatus.BAD_REQUEST);
+		};
+	}
+}
@@ -0,0 +1,66 @@
+package com.encryption.crypto;
+
+import java.time.Instant;
+
+import javax.crypto.SecretKey;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The {@code KeyEncryptionKey} class holds a recovered key encryption key of a
+ * channel, used to wrap the data keys of the envelopes exchanged with the
+ * channel with {@link KeyWrapAlgorithm#AES_KW} instead of a public key
+ * operation.
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeyEncryptionKey {
+
+	/**
+	 * Id of the key named in the envelope header
+	 */
+	private final String id;
+
+	/**
+	 * Id of the channel owning the key
+	 */
+	private final String channelId;
+
+	/**
+	 * {@code AES} key encryption key
+	 */
+	private final SecretKey key;
+
+	/**
+	 * Time after which the key is no longer accepted
+	 */
+	private final Instant expiresAt;
+
+	/**
+	 * Method to get a new instance of {@link KeyEncryptionKey}
+	 *
+	 * @param id        Id of the key
+	 * @param channelId Id of the channel owning the key
+	 * @param key       {@code AES} key encryption key
+	 * @param expiresAt Time after which the key is no longer accepted
+	 * @return New instance of {@link KeyEncryptionKey}
+	 */
+	public static KeyEncryptionKey getInstance(String id, String channelId, SecretKey key, Instant expiresAt) {
+		return new KeyEncryptionKey(id, channelId, key, expiresAt);
+	}
+
+	/**
+	 * Method to check whether the key is still accepted at the given time
+	 *
+	 * @param time Time to check
+	 * @return Boolean value determining whether the key has not expired
+	 */
+	public boolean validAt(Instant time) {
+		return expiresAt.isAfter(time);
+	}
+}
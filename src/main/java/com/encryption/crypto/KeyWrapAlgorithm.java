@@ -0,0 +1,91 @@
+package com.encryption.crypto;
+
+import java.security.PublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The {@code KeyWrapAlgorithm} enum lists the algorithms used to protect the
+ * {@code AES} data key of a pay load.
+ *
+ * <ul>
+ * <li>{@link #RSA_OAEP} - The data key is encrypted with the recipient
+ * {@code RSA} public key using the property 'rsa.algorithm'. It is the default
+ * and needs no header attribute.</li>
+ * <li>{@link #ECDH_ES} - An ephemeral key pair is agreed with the recipient key
+ * agreement key, on its {@link KeyAgreementCurve}, the shared secret is
+ * expanded with {@code HKDF} and the data key is encrypted with
+ * {@code AES/GCM}. The wrapped key carries the ephemeral public key.</li>
+ * <li>{@link #AES_KW} - The data key is wrapped with {@code AES Key Wrap}
+ * under the key encryption key the channel established with the handshake,
+ * named in the envelope header. It is never derived from a public key.</li>
+ * </ul>
+ *
+ * <p>
+ * Data sent to a channel is wrapped with {@link #ECDH_ES} when the channel
+ * registered a key agreement key, or with {@link #RSA_OAEP} when its public key
+ * is an {@code RSA} key. The public key of a channel is only used to verify its
+ * signatures otherwise. Data received from a channel is unwrapped with the
+ * algorithm named in the envelope header.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@AllArgsConstructor
+public enum KeyWrapAlgorithm {
+
+	RSA_OAEP("RSA-OAEP"),
+
+	ECDH_ES("ECDH-ES"),
+
+	AES_KW("A256KW");
+
+	/**
+	 * Name of the algorithm recorded in the envelope header
+	 */
+	private final String headerName;
+
+	/**
+	 * Method to get the key wrap algorithm of a recipient from its keys
+	 *
+	 * @param publicKey    Public key of the recipient
+	 * @param agreementKey Key agreement key of the recipient, if registered
+	 * @return {@link KeyWrapAlgorithm} of the recipient
+	 * @throws AppException Thrown when the recipient has no key able to wrap keys
+	 */
+	public static KeyWrapAlgorithm of(PublicKey publicKey, Optional<PublicKey> agreementKey) throws AppException {
+		if (agreementKey.isPresent())
+			return ECDH_ES;
+		if (publicKey instanceof RSAPublicKey)
+			return RSA_OAEP;
+		throw AppException.getInstance("Key wrapping is not supported for " + publicKey.getAlgorithm() + " keys",
+				"Register a key agreement key (EC P-256 or X25519) to receive encrypted data", Codes.ERR04,
+				HttpStatus.BAD_REQUEST);
+	}
+
+	/**
+	 * Method to get the key wrap algorithm recorded in an envelope header
+	 *
+	 * @param headerName Name of the key wrap algorithm
+	 * @return {@link KeyWrapAlgorithm} with the given name
+	 * @throws AppException Thrown when the name is not supported
+	 */
+	public static KeyWrapAlgorithm fromHeaderName(String headerName) throws AppException {
+		for (KeyWrapAlgorithm algorithm : values())
+			if (algorithm.headerName.equals(headerName))
+				return algorithm;
+
+		throw AppException.getInstance("Unsupported key wrap algorithm: " + headerName,
+				"Pass a supported key wrap algorithm", Codes.ERR01, HttpStatus.BAD_REQUEST);
+	}
+}
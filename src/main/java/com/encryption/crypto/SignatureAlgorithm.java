@@ -0,0 +1,153 @@
+package com.encryption.crypto;
+
+import java.security.AlgorithmParameters;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.ECKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.ECParameterSpec;
+import java.security.spec.InvalidParameterSpecException;
+
+import org.springframework.http.HttpStatus;
+
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+import com.utilities.exceptions.ConfigException;
+import com.utilities.property.AppProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The {@code SignatureAlgorithm} enum lists the digital signature algorithms a
+ * channel can use.
+ *
+ * <p>
+ * The algorithm of a channel follows the type of the public key it registered,
+ * so no additional column is needed in the channel details. The service signs
+ * the data sent to a channel with its own key of the same type, read from the
+ * key store under the alias mentioned in configurations for the algorithm.
+ * </p>
+ *
+ * <ul>
+ * <li>{@link #RS256} - {@code RSA} keys, signed with property
+ * 'signature.instance'</li>
+ * <li>{@link #ES256} - {@code EC} keys, signed with property
+ * 'signature.ec.instance'</li>
+ * <li>{@link #ED25519} - {@code Ed25519} keys, signed with property
+ * 'signature.ed.instance'</li>
+ * </ul>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@AllArgsConstructor
+public enum SignatureAlgorithm {
+
+	RS256("RSA", "signature.instance", "keystore.alias"),
+
+	ES256("EC", "signature.ec.instance", "keystore.ec.alias"),
+
+	ED25519("Ed25519", "signature.ed.instance", "keystore.ed.alias");
+
+	/**
+	 * Domain parameters of the {@code P-256} ({@code secp256r1}) curve
+	 */
+	private static final ECParameterSpec P256 = p256();
+
+	/**
+	 * Key factory algorithm of the keys used by the signature algorithm
+	 */
+	private final String keyAlgorithm;
+
+	/**
+	 * Property holding the {@code Signature} instance name
+	 */
+	private final String instanceProperty;
+
+	/**
+	 * Property holding the key store alias of the service signing key
+	 */
+	private final String aliasProperty;
+
+	/**
+	 * Method to get the {@code Signature} instance name mentioned in
+	 * configurations
+	 *
+	 * @return Signature instance name
+	 */
+	public String instance() {
+		return AppProperties.strProperty(instanceProperty);
+	}
+
+	/**
+	 * Method to get the signature algorithm matching the type of a key. {@code EC}
+	 * keys must be on the {@code P-256} curve, other curves of the same size such
+	 * as {@code secp256k1} or {@code brainpoolP256r1} are rejected.
+	 *
+	 * @param key Public or private key
+	 * @return {@link SignatureAlgorithm} of the key
+	 * @throws AppException Thrown when the key type or curve is not supported
+	 */
+	public static SignatureAlgorithm of(Key key) throws AppException {
+		return switch (key.getAlgorithm()) {
+		case "RSA" -> RS256;
+		case "EC" -> {
+			if (key instanceof ECKey ecKey && isP256(ecKey.getParams()))
+				yield ES256;
+			throw AppException.getInstance("Unsupported EC curve", "Pass an EC key on the P-256 curve", Codes.ERR01,
+					HttpStatus.BAD_REQUEST);
+		}
+		case "Ed25519", "EdDSA" -> ED25519;
+		default -> throw AppException.getInstance("Unsupported key algorithm: " + key.getAlgorithm(),
+				"Pass an RSA, EC or Ed25519 key", Codes.ERR04, HttpStatus.BAD_REQUEST);
+		};
+	}
+
+	/**
+	 * Method to check whether the domain parameters of a key are the ones of the
+	 * {@code P-256} curve: same field, coefficients, generator, order and
+	 * cofactor
+	 *
+	 * @param params {@link ECParameterSpec} of the key
+	 * @return Boolean value determining whether the key is on the {@code P-256}
+	 *         curve
+	 */
+	private static boolean isP256(ECParameterSpec params) {
+		return P256.getCurve().equals(params.getCurve()) && P256.getGenerator().equals(params.getGenerator())
+				&& P256.getOrder().equals(params.getOrder()) && P256.getCofactor() == params.getCofactor();
+	}
+
+	/**
+	 * Method to get the domain parameters of the {@code P-256} curve from the
+	 * installed providers
+	 *
+	 * @return {@link ECParameterSpec} of {@code secp256r1}
+	 */
+	private static ECParameterSpec p256() {
+		try {
+			AlgorithmParameters parameters = AlgorithmParameters.getInstance("EC");
+			parameters.init(new ECGenParameterSpec("secp256r1"));
+			return parameters.getParameterSpec(ECParameterSpec.class);
+		} catch (NoSuchAlgorithmException | InvalidParameterSpecException e) {
+			throw ConfigException.getInstance("P-256 curve parameters not available: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to get the signature algorithm recorded in an envelope header
+	 *
+	 * @param name Name of the signature algorithm
+	 * @return {@link SignatureAlgorithm} with the given name
+	 * @throws AppException Thrown when the name is not supported
+	 */
+	public static SignatureAlgorithm fromName(String name) throws AppException {
+		try {
+			return valueOf(name);
+		} catch (IllegalArgumentException e) {
+			throw AppException.getInstance("Unsupported signature algorithm: " + name,
+					"Pass a supported signature algorithm", Codes.ERR01, HttpStatus.BAD_REQUEST);
+		}
+	}
+}
@@ -0,0 +1,34 @@
+/**
+ * This package contains the building blocks of the cryptographic layer used by
+ * {@link com.encryption.utility.EncryptionUtility}.
+ *
+ * <p>
+ * Classes in this package describe how encrypted pay loads are laid out on the
+ * wire and provide reusable primitives for the encryption and decryption
+ * operations performed in the application.
+ * </p>
+ *
+ * <h2>Components</h2>
+ * <ul>
+ * <li>{@link com.encryption.crypto.Envelope} - Versioned pay load carrying the
+ * wrapped data key, IV, signature and encrypted data</li>
+ * <li>{@link com.encryption.crypto.CryptoPrimitives} - Per-thread pool of
+ * {@code JCE} primitives keyed by algorithm</li>
+ * <li>{@link com.encryption.crypto.SignatureAlgorithm} - Signature algorithms
+ * selected per channel from the type of its public key</li>
+ * <li>{@link com.encryption.crypto.KeyWrapAlgorithm} - Algorithms protecting
+ * the data key, {@code RSA-OAEP}, {@code ECDH-ES} or {@code A256KW}</li>
+ * <li>{@link com.encryption.crypto.KeyAgreementCurve} - Curves of the key
+ * agreement keys used by {@code ECDH-ES}, {@code P-256} or {@code X25519}</li>
+ * <li>{@link com.encryption.crypto.CipherSuite} - Authenticated ciphers of the
+ * pay load, {@code AES-GCM} or {@code ChaCha20-Poly1305}</li>
+ * <li>{@link com.encryption.crypto.CipherSuiteRegistry} - Cipher suites by
+ * name and per channel</li>
+ * <li>{@link com.encryption.crypto.KeyEncryptionKey} - Recovered key
+ * encryption key of a channel</li>
+ * </ul>
+ *
+ *
+ * @author Kabir Akware
+ */
+package com.encryption.crypto;
@@ -0,0 +1,108 @@
+package com.encryption.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import com.model.enums.Codes;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Response of the key encryption key handshake of a channel.
+ *
+ * <p>
+ * The key encryption key is returned wrapped for the channel with the key wrap
+ * algorithm of its public key, so only the holder of the channel private key
+ * can recover it. The channel then names the key id in the envelope header of
+ * the envelopes whose data key it wraps with {@code AES Key Wrap}.
+ * </p>
+ *
+ * <p>
+ * The response is signed the same way as the envelopes, with the service key
+ * of the signature algorithm of the channel public key over the
+ * {@link #signedData(String, String, String, Instant)} of the response, so the
+ * channel can check that the key comes from the service before using it.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class KekHandshake {
+
+	/**
+	 * Time-stamp of the response
+	 */
+	private String timestamp;
+
+	/**
+	 * Response code
+	 */
+	private Codes code;
+
+	/**
+	 * Id of the channel owning the key
+	 */
+	private String channelId;
+
+	/**
+	 * Id of the key to name in the envelope header
+	 */
+	private String kekId;
+
+	/**
+	 * Key wrap algorithm the key is wrapped with for the channel
+	 */
+	private String keyWrapAlgorithm;
+
+	/**
+	 * {@code Base64} encoded key wrapped for the channel
+	 */
+	private String wrappedKek;
+
+	/**
+	 * Time after which the key is no longer accepted
+	 */
+	private Instant expiresAt;
+
+	/**
+	 * {@code Base64} encoded signature of the response made with the service key
+	 */
+	private String signature;
+
+	/**
+	 * Method to get the data signed by the service: the channel id, the key id,
+	 * the wrapped key and the {@code ISO-8601} expiry joined with dots
+	 *
+	 * @param channelId  Id of the channel owning the key
+	 * @param kekId      Id of the key
+	 * @param wrappedKek {@code Base64} encoded key wrapped for the channel
+	 * @param expiresAt  Time after which the key is no longer accepted
+	 * @return Signed data bytes
+	 */
+	public static byte[] signedData(String channelId, String kekId, String wrappedKek, Instant expiresAt) {
+		return String.join(".", channelId, kekId, wrappedKek, expiresAt.toString()).getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Method to get a new instance of {@link KekHandshake}
+	 *
+	 * @param timestamp        Time-stamp of the response
+	 * @param code             Response code
+	 * @param channelId        Id of the channel owning the key
+	 * @param kekId            Id of the key
+	 * @param keyWrapAlgorithm Key wrap algorithm the key is wrapped with
+	 * @param wrappedKek       {@code Base64} encoded key wrapped for the channel
+	 * @param expiresAt        Time after which the key is no longer accepted
+	 * @param signature        {@code Base64} encoded signature of the response
+	 * @return New instance of {@link KekHandshake}
+	 */
+	public static KekHandshake getInstance(String timestamp, Codes code, String channelId, String kekId,
+			String keyWrapAlgorithm, String wrappedKek, Instant expiresAt, String signature) {
+		return new KekHandshake(timestamp, code, channelId, kekId, keyWrapAlgorithm, wrappedKek, expiresAt,
+				signature);
+	}
+}
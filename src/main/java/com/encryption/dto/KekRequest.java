@@ -0,0 +1,57 @@
+package com.encryption.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Request of the key encryption key handshake of a channel.
+ *
+ * <p>
+ * The request proves that the caller holds the private key of the channel: it
+ * carries the time it was issued at and the {@code Base64} encoded signature,
+ * made with the channel private key and the signature algorithm of the channel
+ * public key, of the {@link #signedData(String)} of the request. A request is
+ * accepted once, within the clock skew mentioned in configurations with
+ * property 'kek.handshake.max.skew.seconds'.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+public class KekRequest {
+
+	/**
+	 * Time the request was issued at
+	 */
+	@NotNull
+	private Instant issuedAt;
+
+	/**
+	 * {@code Base64} encoded signature of the request made with the channel
+	 * private key
+	 */
+	@NotBlank
+	private String signature;
+
+	/**
+	 * Method to get the data signed by the channel: the channel id and the
+	 * {@code ISO-8601} issue time joined with a dot
+	 *
+	 * @param channelId Id of the channel making the request
+	 * @return Signed data bytes
+	 */
+	public byte[] signedData(String channelId) {
+		return (channelId + "." + issuedAt).getBytes(StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,17 @@
+/**
+ * This package contains the request and response objects owned by the
+ * encryption service, in addition to the shared objects of
+ * {@code com.model.dto}.
+ *
+ * <h2>Objects</h2>
+ * <ul>
+ * <li>{@link com.encryption.dto.KekHandshake} - Response of the key encryption
+ * key handshake of a channel</li>
+ * <li>{@link com.encryption.dto.KekRequest} - Request of the key encryption key
+ * handshake, signed with the channel private key</li>
+ * </ul>
+ *
+ *
+ * @author Kabir Akware
+ */
+package com.encryption.dto;
@@ -0,0 +1,70 @@
+package com.encryption.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Entity holding the key agreement key of a channel, kept alongside the
+ * channel details of the channel.
+ *
+ * <p>
+ * The key is registered separately from the public key of the channel: the
+ * public key only verifies the signatures of the channel, while the data keys
+ * sent to the channel are agreed with {@code ECDH-ES} against this key. A
+ * channel holds one key, registering a new one replaces it.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://jakarta.ee/specifications/persistence/3.1/apidocs/jakarta.persistence/jakarta/persistence/entity">
+ *      Entity </a>
+ * @author Kabir Akware
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(name = "channel_agreement_key")
+public class ChannelAgreementKey {
+
+	/**
+	 * Id of the channel owning the key
+	 */
+	@Id
+	@Column(name = "channel_id", nullable = false)
+	private String channelId;
+
+	/**
+	 * {@code Base64} encoded {@code X.509} key agreement public key
+	 */
+	@Column(name = "public_key", nullable = false, length = 1024)
+	private String publicKey;
+
+	/**
+	 * Time the key was registered
+	 */
+	@Column(name = "registered_at", nullable = false)
+	private Instant registeredAt;
+
+	/**
+	 * Method to get a new instance of {@link ChannelAgreementKey}
+	 *
+	 * @param channelId    Id of the channel owning the key
+	 * @param publicKey    {@code Base64} encoded key agreement public key
+	 * @param registeredAt Time the key was registered
+	 * @return New instance of {@link ChannelAgreementKey}
+	 */
+	public static ChannelAgreementKey getInstance(String channelId, String publicKey, Instant registeredAt) {
+		return new ChannelAgreementKey(channelId, publicKey, registeredAt);
+	}
+}
@@ -0,0 +1,78 @@
+package com.encryption.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Entity recording that the details of a channel were saved, so every instance
+ * can fetch only the channels changed since its last sync instead of reloading
+ * the whole channel table.
+ *
+ * <p>
+ * A row is written in the same transaction as the channel details. The
+ * {@code changed_at} column is stamped by the data base clock, never by the
+ * instance, and is indexed since it is the sync watermark. Rows older than
+ * property 'channel.change.retention.hours' are purged.
+ * </p>
+ *
+ * <p>
+ * The table is created with the script {@code db/channel_change.sql}.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://jakarta.ee/specifications/persistence/3.1/apidocs/jakarta.persistence/jakarta/persistence/entity">
+ *      Entity </a>
+ * @author Kabir Akware
+ */
+@Entity
+@Getter
+@ToString
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(name = "channel_change", indexes = @Index(name = "idx_channel_change_changed_at", columnList = "changed_at"))
+public class ChannelChange {
+
+	/**
+	 * Generated id of the change
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * Id of the changed channel
+	 */
+	@Column(name = "channel_id", nullable = false)
+	private String channelId;
+
+	/**
+	 * Time of the change, set by the data base on insert
+	 */
+	@Column(name = "changed_at", nullable = false, insertable = false, updatable = false,
+			columnDefinition = "timestamp with time zone default clock_timestamp()")
+	private Instant changedAt;
+
+	/**
+	 * Method to get a new instance of {@link ChannelChange}, stamped by the data
+	 * base once saved
+	 *
+	 * @param channelId Id of the changed channel
+	 * @return New instance of {@link ChannelChange}
+	 */
+	public static ChannelChange getInstance(String channelId) {
+		return new ChannelChange(null, channelId, null);
+	}
+}
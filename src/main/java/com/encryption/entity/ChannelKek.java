@@ -0,0 +1,108 @@
+package com.encryption.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Entity holding a key encryption key established by a channel with the
+ * handshake, kept alongside the channel details of the channel.
+ *
+ * <p>
+ * The key itself is never stored in clear: it is encrypted with the
+ * {@code RSA} public key of the service certificate whose key id is recorded
+ * with it, so every instance holding the key store can recover it. A channel
+ * may hold several keys while it rotates, the latest one not expired is used
+ * to encrypt and any one not expired is accepted to decrypt. The issue time of
+ * the handshake request is kept with the key, a channel cannot use the same
+ * request twice.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://jakarta.ee/specifications/persistence/3.1/apidocs/jakarta.persistence/jakarta/persistence/entity">
+ *      Entity </a>
+ * @author Kabir Akware
+ */
+@Entity
+@Getter
+@ToString(exclude = "wrappedKek")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Table(name = "channel_kek", indexes = { @Index(name = "idx_channel_kek_channel_id", columnList = "channel_id"),
+		@Index(name = "idx_channel_kek_expires_at", columnList = "expires_at") },
+		uniqueConstraints = @UniqueConstraint(name = "uk_channel_kek_requested_at", columnNames = { "channel_id",
+				"requested_at" }))
+public class ChannelKek {
+
+	/**
+	 * Random id of the key named in the envelope header
+	 */
+	@Id
+	@Column(name = "kek_id", nullable = false, length = 32)
+	private String kekId;
+
+	/**
+	 * Id of the channel owning the key
+	 */
+	@Column(name = "channel_id", nullable = false)
+	private String channelId;
+
+	/**
+	 * {@code Base64} encoded key encrypted with the service public key
+	 */
+	@Column(name = "wrapped_kek", nullable = false, length = 1024)
+	private String wrappedKek;
+
+	/**
+	 * Key id of the service certificate the key is encrypted for
+	 */
+	@Column(name = "key_id", nullable = false, length = 64)
+	private String keyId;
+
+	/**
+	 * Issue time of the handshake request that established the key
+	 */
+	@Column(name = "requested_at", nullable = false)
+	private Instant requestedAt;
+
+	/**
+	 * Time the key was established
+	 */
+	@Column(name = "created_at", nullable = false)
+	private Instant createdAt;
+
+	/**
+	 * Time after which the key is no longer accepted
+	 */
+	@Column(name = "expires_at", nullable = false)
+	private Instant expiresAt;
+
+	/**
+	 * Method to get a new instance of {@link ChannelKek}
+	 *
+	 * @param kekId       Random id of the key
+	 * @param channelId   Id of the channel owning the key
+	 * @param wrappedKek  {@code Base64} encoded key encrypted with the service
+	 *                    public key
+	 * @param keyId       Key id of the service certificate
+	 * @param requestedAt Issue time of the handshake request
+	 * @param createdAt   Time the key was established
+	 * @param expiresAt   Time after which the key is no longer accepted
+	 * @return New instance of {@link ChannelKek}
+	 */
+	public static ChannelKek getInstance(String kekId, String channelId, String wrappedKek, String keyId,
+			Instant requestedAt, Instant createdAt, Instant expiresAt) {
+		return new ChannelKek(kekId, channelId, wrappedKek, keyId, requestedAt, createdAt, expiresAt);
+	}
+}
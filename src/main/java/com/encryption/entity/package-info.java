@@ -0,0 +1,18 @@
+/**
+ * This package contains the {@code JPA} entities owned by the encryption
+ * service, in addition to the shared entities of {@code com.model.entity}.
+ *
+ * <h2>Entities</h2>
+ * <ul>
+ * <li>{@link com.encryption.entity.ChannelChange} - Change log of the channel
+ * details used by the incremental channel sync</li>
+ * <li>{@link com.encryption.entity.ChannelKek} - Key encryption keys
+ * established by the channels with the handshake</li>
+ * <li>{@link com.encryption.entity.ChannelAgreementKey} - Key agreement keys
+ * registered by the channels apart from their public keys</li>
+ * </ul>
+ *
+ *
+ * @author Kabir Akware
+ */
+package com.encryption.entity;
@@ -0,0 +1,177 @@
+package com.encryption.event;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.encryption.exception.AppException;
+import com.encryption.services.ChannelDetailService;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * The {@code ChannelChangeBridge} class forwards the {@link ChannelChangeEvent}
+ * raised on this instance to the other instances over {@code Kafka}, so a
+ * channel registered on one instance is applied to the in-memory channel cache
+ * of all of them right away.
+ *
+ * <p>
+ * Only the channel id is published, keyed by itself, to the topic mentioned in
+ * configurations with property 'channel.events.topic' once the registration is
+ * committed. The send is handed to the {@code channelEventExecutor} so the
+ * request thread never waits for the broker, and a send waits at most property
+ * 'channel.events.max.block.ms' for the broker metadata. Failed sends are
+ * logged, the incremental channel sync then carries the change.
+ * </p>
+ *
+ * <p>
+ * Every instance reads all the partitions of the topic, property
+ * 'channel.events.partitions' of them, with a manual assignment starting from
+ * the end, so no consumer group is created and no offset is committed. It
+ * reads the current details of the channel from the data base and raises a
+ * remote {@link ChannelChangeEvent} locally. Remote events are not forwarded
+ * again.
+ * </p>
+ *
+ * <p>
+ * The bridge exists only when the {@code Kafka} integration is switched on with
+ * {@code config.kafka.enable-kafka}, the incremental channel sync otherwise
+ * remains the only way the changes reach the other instances.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-kafka/api/org/springframework/kafka/annotation/KafkaListener.html">
+ *      KafkaListener</a>
+ * @author Kabir Akware
+ */
+@Component
+@DependsOn("appPropertiesInit")
+@ConditionalOnProperty(name = "config.kafka.enable-kafka", havingValue = "true")
+public class ChannelChangeBridge {
+
+	/**
+	 * Custom constructor to load the dependencies and build the
+	 * {@link KafkaTemplate} with the short blocking time of the channel events
+	 *
+	 * @param producerFactory      {@link ProducerFactory} of the application
+	 * @param channelDetailService {@link ChannelDetailService} interface object
+	 * @param eventPublisher       {@link ApplicationEventPublisher} object
+	 * @param channelEventExecutor {@link Executor} sending the channel events
+	 */
+	public ChannelChangeBridge(ProducerFactory<String, String> producerFactory,
+			ChannelDetailService channelDetailService, ApplicationEventPublisher eventPublisher,
+			Executor channelEventExecutor) {
+		this.kafkaTemplate = new KafkaTemplate<>(producerFactory, Map.of(ProducerConfig.MAX_BLOCK_MS_CONFIG,
+				AppProperties.intProperty("channel.events.max.block.ms")));
+		this.channelDetailService = channelDetailService;
+		this.eventPublisher = eventPublisher;
+		this.channelEventExecutor = channelEventExecutor;
+	}
+
+	/**
+	 * {@link KafkaTemplate} publishing the channel ids
+	 */
+	private final KafkaTemplate<String, String> kafkaTemplate;
+
+	/**
+	 * {@link ChannelDetailService} interface parameter
+	 */
+	private ChannelDetailService channelDetailService;
+
+	/**
+	 * {@link ApplicationEventPublisher} raising the remote events locally
+	 */
+	private ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Bounded {@link Executor} sending the channel events off the request thread
+	 */
+	private Executor channelEventExecutor;
+
+	/**
+	 * Method to publish the id of a channel saved on this instance once the
+	 * transaction is committed, without waiting for the broker
+	 *
+	 * @param event {@link ChannelChangeEvent} raised on this instance
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void publish(ChannelChangeEvent event) {
+		if (event.isRemote())
+			return;
+
+		String channelId = event.getChannelDetails().getChannelId();
+		try {
+			channelEventExecutor.execute(() -> send(channelId));
+		} catch (TaskRejectedException e) {
+			Log.warn(this.getClass().getSimpleName(), "publish",
+					"channel change not published for channel %s: event queue full", channelId);
+		}
+	}
+
+	/**
+	 * Method to send the id of a saved channel to the topic, logging the failures
+	 *
+	 * @param channelId Id of the saved channel
+	 */
+	private void send(String channelId) {
+		try {
+			kafkaTemplate.send(AppProperties.strProperty("channel.events.topic"), channelId, channelId)
+					.whenComplete((result, e) -> {
+						if (e != null)
+							Log.warn(this.getClass().getSimpleName(), "send",
+									"channel change not published for channel %s: %s", channelId, e.getMessage());
+					});
+		} catch (RuntimeException e) {
+			Log.warn(this.getClass().getSimpleName(), "send", "channel change not published for channel %s: %s",
+					channelId, e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to consume the ids of the channels saved on any instance and raise
+	 * a remote {@link ChannelChangeEvent} with their current details. The
+	 * partitions are assigned manually, starting from the latest offset since
+	 * the channels are loaded on demand, so every instance receives every change
+	 * without a consumer group of its own.
+	 *
+	 * @param channelId Id of the saved channel
+	 */
+	@KafkaListener(id = "channelChangeBridge", idIsGroup = false,
+			topicPartitions = @TopicPartition(
+					topic = "#{T(com.utilities.property.AppProperties).strProperty('channel.events.topic')}",
+					partitions = "#{'0-' + (T(com.utilities.property.AppProperties)"
+							+ ".intProperty('channel.events.partitions') - 1)}"),
+			properties = { "auto.offset.reset=latest", "enable.auto.commit=false" })
+	public void consume(String channelId) {
+		try {
+			eventPublisher.publishEvent(ChannelChangeEvent.remote(channelDetailService.channelDetails(channelId)));
+		} catch (AppException e) {
+			Log.warn(this.getClass().getSimpleName(), "consume", "channel %s not applied: %s", channelId,
+					e.getDescription());
+		}
+	}
+
+	/**
+	 * Method to close the producers of the {@link KafkaTemplate} before
+	 * destroying the container
+	 */
+	@PreDestroy
+	private void stop() {
+		kafkaTemplate.destroy();
+	}
+}
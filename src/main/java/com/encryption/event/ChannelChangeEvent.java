@@ -0,0 +1,63 @@
+package com.encryption.event;
+
+import com.model.entity.ChannelDetails;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published when the details of a channel are saved in the
+ * system, so that the in-memory channel keys can be updated right away instead
+ * of waiting for the scheduled refresh.
+ *
+ * <p>
+ * The event is published with Spring's {@code ApplicationEventPublisher} and
+ * consumed by {@code @EventListener} methods. Events raised on this instance
+ * are forwarded to the other instances by {@link ChannelChangeBridge}, events
+ * received from them are marked as remote so they are not forwarded again.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/event/EventListener.html">
+ *      EventListener</a>
+ * @author Kabir Akware
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class ChannelChangeEvent {
+
+	/**
+	 * {@link ChannelDetails} object that was saved
+	 */
+	private ChannelDetails channelDetails;
+
+	/**
+	 * Flag marking an event received from another instance
+	 */
+	private boolean remote;
+
+	/**
+	 * Method to get a new instance of {@link ChannelChangeEvent} for channel
+	 * details saved on this instance
+	 *
+	 * @param channelDetails {@link ChannelDetails} object that was saved
+	 * @return New instance of {@link ChannelChangeEvent}
+	 */
+	public static ChannelChangeEvent getInstance(ChannelDetails channelDetails) {
+		return new ChannelChangeEvent(channelDetails, false);
+	}
+
+	/**
+	 * Method to get a new instance of {@link ChannelChangeEvent} for channel
+	 * details saved on another instance
+	 *
+	 * @param channelDetails {@link ChannelDetails} object that was saved
+	 * @return New instance of {@link ChannelChangeEvent}
+	 */
+	public static ChannelChangeEvent remote(ChannelDetails channelDetails) {
+		return new ChannelChangeEvent(channelDetails, true);
+	}
+}
@@ -0,0 +1,46 @@
+package com.encryption.event;
+
+import java.util.Set;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published when the key store is reloaded, so that the
+ * in-memory material derived from the previous keys, such as the data keys
+ * recovered with a private key that may no longer be in the key store, is
+ * dropped right away instead of waiting for it to expire.
+ *
+ * <p>
+ * The event is published with Spring's {@code ApplicationEventPublisher} and
+ * consumed by {@code @EventListener} methods on this instance only.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/context/event/EventListener.html">
+ *      EventListener</a>
+ * @author Kabir Akware
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class KeyStoreReloadEvent {
+
+	/**
+	 * Key ids of the {@code RSA} private keys in the reloaded key store
+	 */
+	private Set<String> keyIds;
+
+	/**
+	 * Method to get a new instance of {@link KeyStoreReloadEvent}
+	 *
+	 * @param keyIds Key ids of the {@code RSA} private keys in the reloaded key
+	 *               store
+	 * @return New instance of {@link KeyStoreReloadEvent}
+	 */
+	public static KeyStoreReloadEvent getInstance(Set<String> keyIds) {
+		return new KeyStoreReloadEvent(keyIds);
+	}
+}
@@ -0,0 +1,24 @@
+/**
+ * This package contains the application events exchanged between the
+ * components of the {@code encryption} application.
+ *
+ * <p>
+ * Events decouple the components that change the state of the application from
+ * the components that cache it in memory, avoiding circular dependencies
+ * between them.
+ * </p>
+ *
+ * <h2>Components</h2>
+ * <ul>
+ * <li>{@link com.encryption.event.ChannelChangeEvent} - Published when the
+ * details of a channel are saved</li>
+ * <li>{@link com.encryption.event.ChannelChangeBridge} - Forwards the channel
+ * changes to the other instances over {@code Kafka}</li>
+ * <li>{@link com.encryption.event.KeyStoreReloadEvent} - Published when the
+ * key store is reloaded</li>
+ * </ul>
+ *
+ *
+ * @author Kabir Akware
+ */
+package com.encryption.event;
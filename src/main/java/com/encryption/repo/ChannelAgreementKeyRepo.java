@@ -0,0 +1,42 @@
+package com.encryption.repo;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.encryption.entity.ChannelAgreementKey;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Repository interface for managing {@link ChannelAgreementKey} entities.
+ * <p>
+ * This interface provides basic {@code CRUD operations} by extending the
+ * {@link JpaRepository}. The implementation of this interface is automatically
+ * provided by Spring Data JPA at runtime.
+ * </p>
+ *
+ * <p>
+ * Methods used:
+ * </p>
+ *
+ * <ul>
+ * <li>{@link #save(Object)} - stores or replaces the key agreement key of a
+ * channel in the database</li>
+ * <li>{@link #findById(Object)} - fetches the key agreement key of a
+ * channel</li>
+ * </ul>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-data/jpa/docs/current/api/org/springframework/data/jpa/repository/JpaRepository.html">
+ *      JpaRepository </a>
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Repository.html">
+ *      Repository </a>
+ * @author Kabir Akware
+ */
+@Repository
+@Transactional
+public interface ChannelAgreementKeyRepo extends JpaRepository<ChannelAgreementKey, String> {
+
+}
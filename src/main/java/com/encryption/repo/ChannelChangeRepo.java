@@ -0,0 +1,78 @@
+package com.encryption.repo;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.encryption.entity.ChannelChange;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Repository interface for managing {@link ChannelChange} entities.
+ * <p>
+ * This interface provides basic {@code CRUD operations} by extending the
+ * {@link JpaRepository} and the query fetching the channel changes after a
+ * sync watermark. The implementation of this interface is automatically
+ * provided by Spring Data JPA at runtime.
+ * </p>
+ * 
+ * <p>
+ * Methods used:
+ * </p>
+ * 
+ * <ul>
+ * <li>{@link #save(Object)} - records a channel change in the database</li>
+ * <li>{@link #findByChangedAtAfterOrderByChangedAtAsc(Instant)} - fetches the
+ * channel changes recorded after a given time</li>
+ * <li>{@link #databaseTimeMillis()} - reads the clock of the data base</li>
+ * <li>{@link #deleteChangedBefore(Instant)} - purges the channel changes
+ * recorded before a given time</li>
+ * </ul>
+ *
+ * 
+ * @see <a href =
+ *      "https://docs.spring.io/spring-data/jpa/docs/current/api/org/springframework/data/jpa/repository/JpaRepository.html">
+ *      JpaRepository </a>
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Repository.html">
+ *      Repository </a>
+ * @author Kabir Akware
+ */
+@Repository
+@Transactional
+public interface ChannelChangeRepo extends JpaRepository<ChannelChange, Long> {
+
+	/**
+	 * Method to fetch the channel changes recorded after the given time, oldest
+	 * first
+	 * 
+	 * @param changedAt Sync watermark
+	 * @return List of {@link ChannelChange}
+	 */
+	List<ChannelChange> findByChangedAtAfterOrderByChangedAtAsc(Instant changedAt);
+
+	/**
+	 * Method to read the clock of the data base, the one stamping the channel
+	 * changes
+	 * 
+	 * @return Milliseconds since the epoch
+	 */
+	@Query(value = "select cast(extract(epoch from clock_timestamp()) * 1000 as bigint)", nativeQuery = true)
+	long databaseTimeMillis();
+
+	/**
+	 * Method to delete the channel changes recorded before the given time
+	 * 
+	 * @param changedAt Oldest time kept
+	 * @return Number of deleted changes
+	 */
+	@Modifying
+	@Query("delete from ChannelChange c where c.changedAt < :changedAt")
+	int deleteChangedBefore(@Param("changedAt") Instant changedAt);
+}
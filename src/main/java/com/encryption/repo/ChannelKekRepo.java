@@ -0,0 +1,84 @@
+package com.encryption.repo;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.encryption.entity.ChannelKek;
+
+import jakarta.transaction.Transactional;
+
+/**
+ * Repository interface for managing {@link ChannelKek} entities.
+ * <p>
+ * This interface provides basic {@code CRUD operations} by extending the
+ * {@link JpaRepository} and the query fetching the current key encryption key
+ * of a channel. The implementation of this interface is automatically provided
+ * by Spring Data JPA at runtime.
+ * </p>
+ * 
+ * <p>
+ * Methods used:
+ * </p>
+ * 
+ * <ul>
+ * <li>{@link #save(Object)} - stores a key encryption key in the database</li>
+ * <li>{@link #findById(Object)} - fetches a key encryption key by its id</li>
+ * <li>{@link #findFirstByChannelIdAndExpiresAtAfterOrderByCreatedAtDesc(String, Instant)}
+ * - fetches the latest key encryption key of a channel still valid at a given
+ * time</li>
+ * <li>{@link #findFirstByChannelIdOrderByRequestedAtDesc(String)} - fetches the
+ * key encryption key of the latest handshake request of a channel</li>
+ * <li>{@link #deleteExpiredBefore(Instant)} - purges the key encryption keys
+ * expired before a given time</li>
+ * </ul>
+ *
+ * 
+ * @see <a href =
+ *      "https://docs.spring.io/spring-data/jpa/docs/current/api/org/springframework/data/jpa/repository/JpaRepository.html">
+ *      JpaRepository </a>
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Repository.html">
+ *      Repository </a>
+ * @author Kabir Akware
+ */
+@Repository
+@Transactional
+public interface ChannelKekRepo extends JpaRepository<ChannelKek, String> {
+
+	/**
+	 * Method to fetch the latest key encryption key of a channel expiring after
+	 * the given time
+	 * 
+	 * @param channelId Channel id
+	 * @param expiresAt Time the key must still be valid at
+	 * @return {@link ChannelKek} or empty value if the channel has no valid key
+	 */
+	Optional<ChannelKek> findFirstByChannelIdAndExpiresAtAfterOrderByCreatedAtDesc(String channelId,
+			Instant expiresAt);
+
+	/**
+	 * Method to fetch the key encryption key of the latest handshake request of a
+	 * channel, expired or not
+	 * 
+	 * @param channelId Channel id
+	 * @return {@link ChannelKek} or empty value if the channel never made a
+	 *         handshake
+	 */
+	Optional<ChannelKek> findFirstByChannelIdOrderByRequestedAtDesc(String channelId);
+
+	/**
+	 * Method to delete the key encryption keys expired before the given time
+	 * 
+	 * @param expiresAt Oldest expiry kept
+	 * @return Number of deleted keys
+	 */
+	@Modifying
+	@Query("delete from ChannelKek k where k.expiresAt < :expiresAt")
+	int deleteExpiredBefore(@Param("expiresAt") Instant expiresAt);
+}
@@ -35,6 +35,12 @@
  * audit data from Data base</li>
  * <li>{@link com.encryption.repo.UserDetailsRepo} - Used to persist and
  * retrieve user data from Data base</li>
+ * <li>{@link com.encryption.repo.ChannelChangeRepo} - Used to record and
+ * retrieve the channel changes after a sync watermark</li>
+ * <li>{@link com.encryption.repo.ChannelKekRepo} - Used to store and retrieve
+ * the key encryption keys of the channels</li>
+ * <li>{@link com.encryption.repo.ChannelAgreementKeyRepo} - Used to store and
+ * retrieve the key agreement keys of the channels</li>
  * </ul>
  * 
  * <p>
@@ -0,0 +1,41 @@
+package com.encryption.services;
+
+import java.security.PublicKey;
+import java.util.Optional;
+
+import com.encryption.exception.AppException;
+import com.model.dto.Channel;
+
+/**
+ * This Interface defines the contract for {@code ChannelAgreementKeyService}
+ * service. The service registers the key agreement keys of the channels,
+ * separately from their public keys, and provides them to wrap the data keys
+ * sent to the channels with {@code ECDH-ES}.
+ *
+ *
+ * @author Kabir Akware
+ */
+public interface ChannelAgreementKeyService {
+
+	/**
+	 * Declaration of {@code register} to register or replace the key agreement
+	 * key of a registered channel
+	 *
+	 * @param channel {@link Channel} carrying the channel id and the encoded key
+	 *                agreement public key
+	 * @return {@link Channel} with the registered key
+	 * @throws AppException Thrown when the channel is not registered or the key
+	 *                      is invalid or not supported
+	 */
+	Channel register(Channel channel) throws AppException;
+
+	/**
+	 * Declaration of {@code agreementKey} to get the key agreement key of a
+	 * channel
+	 *
+	 * @param channelId Channel id
+	 * @return Decoded {@link PublicKey} or empty value if the channel registered
+	 *         no key agreement key
+	 */
+	Optional<PublicKey> agreementKey(String channelId);
+}
@@ -1,7 +1,10 @@
 package com.encryption.services;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
+import com.encryption.entity.ChannelChange;
 import com.encryption.exception.AppException;
 import com.model.dto.Channel;
 import com.model.entity.ChannelDetails;
@@ -48,4 +51,39 @@ public interface ChannelDetailService {
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
 	ChannelDetails channelDetails(String channelId) throws AppException;
+
+	/**
+	 * Declaration of {@code channelDetails} to get the {@link ChannelDetails} of
+	 * the given channels
+	 * 
+	 * @param channelIds Channel ids
+	 * @return List of {@link ChannelDetails} of the channels still registered
+	 */
+	List<ChannelDetails> channelDetails(Collection<String> channelIds);
+
+	/**
+	 * Declaration of {@code channelChanges} to get the channel changes recorded
+	 * after a sync watermark
+	 * 
+	 * @param since Sync watermark
+	 * @return List of {@link ChannelChange} object, oldest first
+	 */
+	List<ChannelChange> channelChanges(Instant since);
+
+	/**
+	 * Declaration of {@code databaseTime} to get the current time of the data
+	 * base clock stamping the channel changes
+	 * 
+	 * @return Current data base time
+	 */
+	Instant databaseTime();
+
+	/**
+	 * Declaration of {@code purgeChannelChanges} to delete the channel changes
+	 * recorded before a given time
+	 * 
+	 * @param before Oldest time kept
+	 * @return Number of deleted changes
+	 */
+	int purgeChannelChanges(Instant before);
 }
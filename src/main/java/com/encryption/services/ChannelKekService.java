@@ -0,0 +1,55 @@
+package com.encryption.services;
+
+import java.util.Optional;
+
+import com.encryption.crypto.KeyEncryptionKey;
+import com.encryption.dto.KekHandshake;
+import com.encryption.dto.KekRequest;
+import com.encryption.exception.AppException;
+
+/**
+ * This Interface defines the contract for {@code ChannelKekService} service.
+ * The service establishes the key encryption keys of the channels with a
+ * handshake signed with the channel private key and protected by the channel
+ * public key, and provides them to wrap and unwrap the data keys of the
+ * envelopes of the channels that opted in.
+ * 
+ * 
+ * @author Kabir Akware
+ */
+public interface ChannelKekService {
+
+	/**
+	 * Declaration of {@code handshake} to establish a new key encryption key for
+	 * a channel, replacing its current key for the new envelopes
+	 * 
+	 * @param channelId Channel id
+	 * @param request   {@link KekRequest} signed with the channel private key
+	 * @return {@link KekHandshake} carrying the key wrapped for the channel
+	 * @throws AppException Thrown when the channel did not opt in or the request
+	 *                      is stale, replayed or not signed by the channel
+	 */
+	KekHandshake handshake(String channelId, KekRequest request) throws AppException;
+
+	/**
+	 * Declaration of {@code currentKek} to get the key encryption key used to
+	 * wrap the data keys sent to a channel
+	 * 
+	 * @param channelId Channel id
+	 * @return {@link KeyEncryptionKey} or empty value if the channel did not opt
+	 *         in or has no valid key
+	 */
+	Optional<KeyEncryptionKey> currentKek(String channelId);
+
+	/**
+	 * Declaration of {@code kek} to get the key encryption key named in an
+	 * envelope received from a channel
+	 * 
+	 * @param kekId     Id of the key
+	 * @param channelId Channel id the key must belong to
+	 * @return {@link KeyEncryptionKey} object
+	 * @throws AppException Thrown when the channel did not opt in or the key is
+	 *                      unknown, expired or belongs to another channel
+	 */
+	KeyEncryptionKey kek(String kekId, String channelId) throws AppException;
+}
@@ -1,5 +1,9 @@
 package com.encryption.services;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+
 import com.encryption.exception.AppException;
 import com.model.dto.Encryption;
 
@@ -36,4 +40,68 @@ public interface EncryptionService {
 	 */
 	Encryption decrypt(Encryption encryptedBody) throws AppException;
 
+	/**
+	 * Declaration of {@code encrypt} method for encrypting raw bytes into the
+	 * binary envelope.
+	 * 
+	 * @param plainData Plain data given by user
+	 * @param refNo     Reference number starting with the registered channel id
+	 * @return Binary envelope with encrypted data
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	byte[] encrypt(byte[] plainData, String refNo) throws AppException;
+
+	/**
+	 * Declaration of {@code decrypt} method for decrypting a binary envelope.
+	 * 
+	 * @param encryptedData Binary envelope given by user
+	 * @param refNo         Reference number starting with the registered channel
+	 *                      id
+	 * @return Decrypted data
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	byte[] decrypt(byte[] encryptedData, String refNo) throws AppException;
+
+	/**
+	 * Declaration of {@code encrypt} method for encrypting a stream of data.
+	 * 
+	 * @param plainData     {@link InputStream} of plain data given by user
+	 * @param encryptedData {@link OutputStream} to write the encrypted data to
+	 * @param refNo         Reference number starting with the registered channel
+	 *                      id
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	void encrypt(InputStream plainData, OutputStream encryptedData, String refNo) throws AppException;
+
+	/**
+	 * Declaration of {@code decrypt} method for decrypting a stream of data.
+	 * 
+	 * @param encryptedData {@link InputStream} of encrypted data given by user
+	 * @param plainData     {@link OutputStream} to write the decrypted data to
+	 * @param refNo         Reference number starting with the registered channel
+	 *                      id
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	void decrypt(InputStream encryptedData, OutputStream plainData, String refNo) throws AppException;
+
+	/**
+	 * Declaration of {@code encryptBatch} method for encrypting a batch of items.
+	 * 
+	 * @param plainBodies Plain data items given by user
+	 * @return Result of every item in the same order, either an {@link Encryption}
+	 *         object with encrypted data or an {@code AppError} object
+	 * @throws AppException Thrown when the batch itself is invalid
+	 */
+	List<Object> encryptBatch(List<Encryption> plainBodies) throws AppException;
+
+	/**
+	 * Declaration of {@code decryptBatch} method for decrypting a batch of items.
+	 * 
+	 * @param encryptedBodies Encrypted data items given by user
+	 * @return Result of every item in the same order, either an {@link Encryption}
+	 *         object with decrypted data or an {@code AppError} object
+	 * @throws AppException Thrown when the batch itself is invalid
+	 */
+	List<Object> decryptBatch(List<Encryption> encryptedBodies) throws AppException;
+
 }
@@ -0,0 +1,129 @@
+package com.encryption.services.impl;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import com.encryption.entity.ChannelAgreementKey;
+import com.encryption.exception.AppException;
+import com.encryption.repo.ChannelAgreementKeyRepo;
+import com.encryption.services.ChannelAgreementKeyService;
+import com.encryption.services.ChannelDetailService;
+import com.encryption.utility.CommonUtility;
+import com.encryption.utility.EncryptionUtility;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.model.dto.Channel;
+import com.model.enums.Codes;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+/**
+ * This class provides the implementation of {@link ChannelAgreementKeyService}
+ * interface, managing the key agreement keys of the channels in the data base.
+ *
+ * <p>
+ * A key agreement key must be an {@code EC} key on the {@code P-256} curve or
+ * an {@code X25519} key, and is only accepted for a registered channel. It is
+ * kept apart from the public key of the channel, which keeps verifying the
+ * signatures of the channel whatever its type.
+ * </p>
+ *
+ * <p>
+ * The decoded keys are cached by channel id, an absent key included, for
+ * property 'agreement.key.cache.expire.seconds'. A key registered on another
+ * instance is picked up once the entry of the channel expires from the cache.
+ * </p>
+ *
+ *
+ * @author Kabir Akware
+ */
+@Service
+public class ChannelAgreementKeyServiceImpl implements ChannelAgreementKeyService {
+
+	/**
+	 * Custom constructor to load the dependencies and build the cache
+	 *
+	 * @param channelAgreementKeyRepo {@link ChannelAgreementKeyRepo} object
+	 * @param channelDetailService    {@link ChannelDetailService} object
+	 */
+	public ChannelAgreementKeyServiceImpl(ChannelAgreementKeyRepo channelAgreementKeyRepo,
+			ChannelDetailService channelDetailService) {
+		this.channelAgreementKeyRepo = channelAgreementKeyRepo;
+		this.channelDetailService = channelDetailService;
+		this.agreementKeys = Caffeine.newBuilder()
+				.maximumSize(AppProperties.intProperty("agreement.key.cache.max.size"))
+				.expireAfterWrite(Duration.ofSeconds(AppProperties.intProperty("agreement.key.cache.expire.seconds")))
+				.build();
+	}
+
+	/**
+	 * Private variable for {@link ChannelAgreementKeyRepo} object
+	 */
+	private ChannelAgreementKeyRepo channelAgreementKeyRepo;
+
+	/**
+	 * Private variable for {@link ChannelDetailService} object
+	 */
+	private ChannelDetailService channelDetailService;
+
+	/**
+	 * Decoded key agreement keys mapped to the channel id, empty when the
+	 * channel registered no key
+	 */
+	private final Cache<String, Optional<PublicKey>> agreementKeys;
+
+	@Override
+	public Channel register(Channel channel) throws AppException {
+		channelDetailService.channelDetails(channel.getChannelId());
+		String encodedKey = channel.getPublicKey().replace("\n", "");
+		PublicKey publicKey;
+		try {
+			publicKey = EncryptionUtility.agreementPublicKey(CommonUtility.decode(encodedKey));
+		} catch (AppException e) {
+			throw AppException.getInstance("Kindly provide a valid key agreement key value", e.getDescription(),
+					Codes.ERR04, HttpStatus.BAD_REQUEST);
+		}
+
+		try {
+			channelAgreementKeyRepo
+					.save(ChannelAgreementKey.getInstance(channel.getChannelId(), encodedKey, Instant.now()));
+		} catch (Exception e) {
+			throw AppException.getInstance("Something went wrong!! Kindly contact administrator", e.getMessage(),
+					Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+		agreementKeys.put(channel.getChannelId(), Optional.of(publicKey));
+		Log.info(this.getClass().getSimpleName(), "register", "key agreement key registered for channel %s",
+				channel.getChannelId());
+
+		return Channel.getInstance(channel.getRefNo(), CommonUtility.getCurrentTimeStamp(), Codes.S00,
+				channel.getChannelId(), channel.getPublicKey());
+	}
+
+	@Override
+	public Optional<PublicKey> agreementKey(String channelId) {
+		return agreementKeys.get(channelId, id -> channelAgreementKeyRepo.findById(id).flatMap(this::decode));
+	}
+
+	/**
+	 * Method to decode a stored key agreement key. A key that can no longer be
+	 * decoded is treated as absent.
+	 *
+	 * @param agreementKey Stored {@link ChannelAgreementKey}
+	 * @return Decoded {@link PublicKey} or empty value if the key is invalid
+	 */
+	private Optional<PublicKey> decode(ChannelAgreementKey agreementKey) {
+		try {
+			return Optional
+					.of(EncryptionUtility.agreementPublicKey(CommonUtility.decode(agreementKey.getPublicKey())));
+		} catch (AppException e) {
+			Log.warn(this.getClass().getSimpleName(), "decode", "key agreement key of channel %s not decoded: %s",
+					agreementKey.getChannelId(), e.getDescription());
+			return Optional.empty();
+		}
+	}
+}
@@ -1,11 +1,19 @@
 package com.encryption.services.impl;
 
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.encryption.crypto.SignatureAlgorithm;
+import com.encryption.entity.ChannelChange;
+import com.encryption.event.ChannelChangeEvent;
 import com.encryption.exception.AppException;
+import com.encryption.repo.ChannelChangeRepo;
 import com.encryption.repo.ChannelDetailsRepo;
 import com.encryption.services.ChannelDetailService;
 import com.encryption.utility.CommonUtility;
@@ -14,6 +22,7 @@ import com.model.dto.Channel;
 import com.model.entity.ChannelDetails;
 import com.model.enums.Codes;
 
+import jakarta.transaction.Transactional;
 import lombok.AllArgsConstructor;
 
 /**
@@ -55,6 +64,17 @@ public class ChannelDetailServiceImpl implements ChannelDetailService {
 	 */
 	private ChannelDetailsRepo channelDetailsRepo;
 
+	/**
+	 * Private variable for {@link ChannelChangeRepo} object
+	 */
+	private ChannelChangeRepo channelChangeRepo;
+
+	/**
+	 * {@link ApplicationEventPublisher} to notify the in-memory caches about
+	 * registered channels
+	 */
+	private ApplicationEventPublisher eventPublisher;
+
 	@Override
 	public List<ChannelDetails> channelDetails() {
 		return channelDetailsRepo.findAll();
@@ -68,6 +88,27 @@ public class ChannelDetailServiceImpl implements ChannelDetailService {
 	}
 
 	@Override
+	public List<ChannelDetails> channelDetails(Collection<String> channelIds) {
+		return channelDetailsRepo.findAllById(channelIds);
+	}
+
+	@Override
+	public List<ChannelChange> channelChanges(Instant since) {
+		return channelChangeRepo.findByChangedAtAfterOrderByChangedAtAsc(since);
+	}
+
+	@Override
+	public Instant databaseTime() {
+		return Instant.ofEpochMilli(channelChangeRepo.databaseTimeMillis());
+	}
+
+	@Override
+	public int purgeChannelChanges(Instant before) {
+		return channelChangeRepo.deleteChangedBefore(before);
+	}
+
+	@Override
+	@Transactional(rollbackOn = AppException.class)
 	public Channel register(Channel channel) throws AppException {
 		validatePublicKey(channel);
 		savePublicKey(channel);
@@ -76,21 +117,42 @@ public class ChannelDetailServiceImpl implements ChannelDetailService {
 				channel.getChannelId(), channel.getPublicKey());
 	}
 
+	/**
+	 * Method to save the public key of a channel together with a
+	 * {@link ChannelChange} so the other instances pick it up on their next sync
+	 * 
+	 * @param channel {@link Channel} object
+	 * @throws AppException Thrown when the details cannot be saved
+	 */
 	private void savePublicKey(Channel channel) throws AppException {
 		try {
-			channelDetailsRepo.save(ChannelDetails.getInstance(channel.getChannelId(), channel.getPublicKey()));
+			ChannelDetails channelDetails = channelDetailsRepo
+					.save(ChannelDetails.getInstance(channel.getChannelId(), channel.getPublicKey()));
+			channelChangeRepo.save(ChannelChange.getInstance(channel.getChannelId()));
+			eventPublisher.publishEvent(ChannelChangeEvent.getInstance(channelDetails));
 		} catch (Exception e) {
 			throw AppException.getInstance("Something went wrong!! Kindly contact administrator", e.getMessage(),
 					Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
 		}
 	}
 
+	/**
+	 * Method to validate the public key passed for a channel. The key must be an
+	 * {@code RSA}, {@code EC (P-256)} or {@code Ed25519} key since its type
+	 * decides the {@link SignatureAlgorithm} of the channel. An {@code EC} key on
+	 * any other curve is rejected with {@link Codes#ERR01}.
+	 * 
+	 * @param channel {@link Channel} object
+	 * @throws AppException Thrown when the key is invalid or not supported
+	 */
 	private void validatePublicKey(Channel channel) throws AppException {
+		PublicKey publicKey;
 		try {
-			EncryptionUtility.publicKey(channel.getPublicKey().replace("\n", ""));
+			publicKey = EncryptionUtility.publicKey(channel.getPublicKey().replace("\n", ""));
 		} catch (AppException e) {
 			throw AppException.getInstance("Kindly provide a valid public key value", e.getDescription(), Codes.ERR04,
 					HttpStatus.BAD_REQUEST);
 		}
+		SignatureAlgorithm.of(publicKey);
 	}
 }
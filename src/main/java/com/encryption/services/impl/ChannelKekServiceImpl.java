@@ -0,0 +1,314 @@
+package com.encryption.services.impl;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.encryption.config.ApplicationInit;
+import com.encryption.config.KeyRing;
+import com.encryption.crypto.KeyEncryptionKey;
+import com.encryption.crypto.KeyWrapAlgorithm;
+import com.encryption.dto.KekHandshake;
+import com.encryption.dto.KekRequest;
+import com.encryption.entity.ChannelKek;
+import com.encryption.exception.AppException;
+import com.encryption.repo.ChannelKekRepo;
+import com.encryption.services.ChannelKekService;
+import com.encryption.utility.CommonUtility;
+import com.encryption.utility.EncryptionUtility;
+import com.encryption.utility.RandomMaterialUtility;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.model.enums.Codes;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+/**
+ * This class provides the implementation of {@link ChannelKekService}
+ * interface, managing the key encryption keys of the channels in the data
+ * base.
+ * 
+ * <p>
+ * The mode is allowed with property 'kek.enabled' and each channel opts in
+ * with property 'kek.enabled.&lt;channel id&gt;', the other channels keep
+ * their data keys wrapped with their public key even if a key exists for
+ * them.
+ * </p>
+ * 
+ * <p>
+ * A handshake must be signed with the channel private key over the channel id
+ * and the issue time of the request, which must be within property
+ * 'kek.handshake.max.skew.seconds' of the service clock and later than the
+ * issue time of the previous handshake of the channel, so a captured request
+ * cannot be replayed. It draws a random {@code AES-256} key, returns it
+ * wrapped for the channel with the key wrap algorithm of its public key,
+ * signed like the envelopes with the service key of the channel signature
+ * algorithm, and stores it encrypted with the current service certificate. The key is valid for the
+ * number of hours mentioned in configurations with property
+ * 'kek.validity.hours', a new handshake rotates the key of the channel while
+ * the previous keys stay accepted until they expire.
+ * </p>
+ * 
+ * <p>
+ * Recovered keys are cached by id, and the current key of every channel for
+ * property 'kek.cache.expire.seconds', so the service private key is used once
+ * per key and instance. A handshake made on another instance is picked up once
+ * the current key of the channel expires from the cache. A key id that is not
+ * stored is remembered for property 'kek.cache.negative.expire.seconds', so
+ * envelopes naming unknown ids do not reach the data base every time.
+ * </p>
+ * 
+ * <p>
+ * The expired keys are purged from the data base every midnight.
+ * </p>
+ * 
+ * 
+ * @see <a href = "https://www.rfc-editor.org/rfc/rfc3394"> RFC 3394</a>
+ * @author Kabir Akware
+ */
+@Service
+public class ChannelKekServiceImpl implements ChannelKekService {
+
+	/**
+	 * Size of a key encryption key in bytes
+	 */
+	private static final int KEK_LENGTH = 32;
+
+	/**
+	 * Number of random bytes of a key encryption key id
+	 */
+	private static final int ID_LENGTH = 12;
+
+	/**
+	 * Custom constructor to load the dependencies and build the caches
+	 * 
+	 * @param channelKekRepo        {@link ChannelKekRepo} object
+	 * @param encryptionUtility     {@link EncryptionUtility} object
+	 * @param randomMaterialUtility {@link RandomMaterialUtility} object
+	 * @param applicationInit       {@link ApplicationInit} object
+	 */
+	public ChannelKekServiceImpl(ChannelKekRepo channelKekRepo, EncryptionUtility encryptionUtility,
+			RandomMaterialUtility randomMaterialUtility, ApplicationInit applicationInit) {
+		this.channelKekRepo = channelKekRepo;
+		this.encryptionUtility = encryptionUtility;
+		this.randomMaterialUtility = randomMaterialUtility;
+		this.applicationInit = applicationInit;
+		Duration expire = Duration.ofSeconds(AppProperties.intProperty("kek.cache.expire.seconds"));
+		this.keks = Caffeine.newBuilder().maximumSize(AppProperties.intProperty("kek.cache.max.size"))
+				.expireAfterWrite(expire).build();
+		this.currentKeks = Caffeine.newBuilder().maximumSize(AppProperties.intProperty("kek.cache.max.size"))
+				.expireAfterWrite(expire).build();
+		this.unknownKeks = Caffeine.newBuilder().maximumSize(AppProperties.intProperty("kek.cache.max.size"))
+				.expireAfterWrite(Duration.ofSeconds(AppProperties.intProperty("kek.cache.negative.expire.seconds")))
+				.build();
+	}
+
+	/**
+	 * Private variable for {@link ChannelKekRepo} object
+	 */
+	private ChannelKekRepo channelKekRepo;
+
+	/**
+	 * Private variable of {@link EncryptionUtility} class
+	 */
+	private EncryptionUtility encryptionUtility;
+
+	/**
+	 * Private variable of {@link RandomMaterialUtility} class
+	 */
+	private RandomMaterialUtility randomMaterialUtility;
+
+	/**
+	 * {@link ApplicationInit} object parameter
+	 */
+	private ApplicationInit applicationInit;
+
+	/**
+	 * Recovered keys mapped to their id
+	 */
+	private final Cache<String, KeyEncryptionKey> keks;
+
+	/**
+	 * Current key of the channels mapped to the channel id, empty when the
+	 * channel has no valid key
+	 */
+	private final Cache<String, Optional<KeyEncryptionKey>> currentKeks;
+
+	/**
+	 * Key ids known not to be stored or not to be recoverable
+	 */
+	private final Cache<String, Boolean> unknownKeks;
+
+	@Override
+	public KekHandshake handshake(String channelId, KekRequest request) throws AppException {
+		if (!enabled(channelId))
+			throw AppException.getInstance("Key encryption keys are not enabled for channel " + channelId,
+					"Use the public key of the channel", Codes.ERR01, HttpStatus.BAD_REQUEST);
+		Instant requestedAt = verify(channelId, request);
+
+		KeyWrapAlgorithm keyWrapAlgorithm = encryptionUtility.keyWrapAlgorithm(channelId);
+		KeyRing keyRing = applicationInit.keyRing();
+		byte[] kek = randomMaterialUtility.bytes(KEK_LENGTH);
+		String kekId = Base64.getUrlEncoder().withoutPadding().encodeToString(randomMaterialUtility.bytes(ID_LENGTH));
+		Instant createdAt = Instant.now();
+		Instant expiresAt = createdAt.plus(Duration.ofHours(AppProperties.intProperty("kek.validity.hours")))
+				.truncatedTo(ChronoUnit.MICROS);
+
+		String wrappedKek = CommonUtility.encodedString(encryptionUtility.wrapKey(kek, channelId, keyWrapAlgorithm));
+		// Sign before the key is stored, so a failed response never leaves seal wrapping under an unreceived key
+		String signature = CommonUtility.encodedString(encryptionUtility.sign(
+				KekHandshake.signedData(channelId, kekId, wrappedKek, expiresAt),
+				encryptionUtility.signatureAlgorithm(channelId)));
+		try {
+			channelKekRepo.save(ChannelKek.getInstance(kekId, channelId,
+					CommonUtility.encodedString(encryptionUtility.rsaEncrypt(kek, keyRing.getPublicKey())),
+					keyRing.getKeyId(), requestedAt, createdAt, expiresAt));
+		} catch (DataIntegrityViolationException e) {
+			throw replayed();
+		}
+
+		KeyEncryptionKey keyEncryptionKey = KeyEncryptionKey.getInstance(kekId, channelId,
+				new SecretKeySpec(kek, AppProperties.strProperty("aes.instance")), expiresAt);
+		keks.put(kekId, keyEncryptionKey);
+		currentKeks.put(channelId, Optional.of(keyEncryptionKey));
+		Log.info(this.getClass().getSimpleName(), "handshake", "key encryption key %s established for channel %s",
+				kekId, channelId);
+
+		return KekHandshake.getInstance(CommonUtility.getCurrentTimeStamp(), Codes.S00, channelId, kekId,
+				keyWrapAlgorithm.getHeaderName(), wrappedKek, expiresAt, signature);
+	}
+
+	@Override
+	public Optional<KeyEncryptionKey> currentKek(String channelId) {
+		if (!enabled(channelId))
+			return Optional.empty();
+
+		Instant now = Instant.now();
+		return currentKeks.get(channelId, id -> channelKekRepo
+				.findFirstByChannelIdAndExpiresAtAfterOrderByCreatedAtDesc(id, now).flatMap(this::recover))
+				.filter(kek -> kek.validAt(now));
+	}
+
+	@Override
+	public KeyEncryptionKey kek(String kekId, String channelId) throws AppException {
+		if (!enabled(channelId))
+			throw AppException.getInstance("Key encryption keys are not enabled for channel " + channelId,
+					"Wrap the data key with the public key of the service", Codes.ERR01, HttpStatus.BAD_REQUEST);
+
+		KeyEncryptionKey kek = keks.getIfPresent(kekId);
+		if (Objects.isNull(kek) && Objects.isNull(unknownKeks.getIfPresent(kekId))) {
+			kek = channelKekRepo.findById(kekId).flatMap(this::recover).orElse(null);
+			if (Objects.isNull(kek))
+				unknownKeks.put(kekId, Boolean.TRUE);
+		}
+
+		if (Objects.isNull(kek) || !kek.getChannelId().equals(channelId) || !kek.validAt(Instant.now()))
+			throw AppException.getInstance("Unknown or expired key encryption key: " + kekId,
+					"Establish a new key encryption key with the handshake", Codes.ERR04, HttpStatus.UNAUTHORIZED);
+		return kek;
+	}
+
+	/**
+	 * Method to purge the expired key encryption keys at the interval mentioned
+	 * in the {@code application.properties} file with property
+	 * 'config.cache.reload.midnight'. A purged key is past its expiry and is
+	 * neither used nor accepted any longer, and its handshake request is far
+	 * older than the accepted clock skew so it cannot be replayed.
+	 * 
+	 * 
+	 * @see <a href =
+	 *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/scheduling/annotation/Scheduled.html">Scheduled</a>
+	 */
+	@Scheduled(cron = "${config.cache.reload.midnight}")
+	protected void purgeExpiredKeks() {
+		Log.info(this.getClass().getSimpleName(), "purgeExpiredKeks", "%s expired key encryption key(s) purged",
+				channelKekRepo.deleteExpiredBefore(Instant.now()));
+	}
+
+	/**
+	 * Method to check whether a channel opted in to key encryption keys
+	 * 
+	 * @param channelId Channel id
+	 * @return Boolean value determining whether the mode is allowed and enabled
+	 *         for the channel
+	 */
+	private static boolean enabled(String channelId) {
+		return Boolean.parseBoolean(AppProperties.strProperty("kek.enabled"))
+				&& Boolean.parseBoolean(AppProperties.strProperty("kek.enabled." + channelId));
+	}
+
+	/**
+	 * Method to verify that a handshake request is fresh, signed with the channel
+	 * private key and issued after the previous handshake of the channel
+	 * 
+	 * @param channelId Channel id
+	 * @param request   {@link KekRequest} of the channel
+	 * @return Issue time of the request, truncated to the precision stored in
+	 *         the data base
+	 * @throws AppException Thrown when the request is stale, replayed or not
+	 *                      signed by the channel
+	 */
+	private Instant verify(String channelId, KekRequest request) throws AppException {
+		Instant requestedAt = request.getIssuedAt().truncatedTo(ChronoUnit.MICROS);
+		if (Duration.between(requestedAt, Instant.now()).abs()
+				.compareTo(Duration.ofSeconds(AppProperties.intProperty("kek.handshake.max.skew.seconds"))) > 0)
+			throw AppException.getInstance("Handshake request issued at " + request.getIssuedAt(),
+					"Sign a new handshake request with the current time", Codes.ERR02, HttpStatus.UNAUTHORIZED);
+
+		if (!encryptionUtility.verify(CommonUtility.decode(request.getSignature()), request.signedData(channelId),
+				channelId))
+			throw AppException.getInstance("Verification Failed!",
+					"Sign the handshake request with the private key of the channel", Codes.ERR02,
+					HttpStatus.UNAUTHORIZED);
+
+		if (channelKekRepo.findFirstByChannelIdOrderByRequestedAtDesc(channelId)
+				.filter(previous -> !requestedAt.isAfter(previous.getRequestedAt())).isPresent())
+			throw replayed();
+		return requestedAt;
+	}
+
+	/**
+	 * Method to build the exception of a handshake request already used
+	 * 
+	 * @return {@link AppException} object
+	 */
+	private static AppException replayed() {
+		return AppException.getInstance("Handshake request already used",
+				"Sign a new handshake request with the current time", Codes.ERR02, HttpStatus.UNAUTHORIZED);
+	}
+
+	/**
+	 * Method to recover a stored key with the service private key of its key id
+	 * and cache it by id. A key that cannot be recovered, such as one encrypted
+	 * for a certificate no longer in the key store, is treated as absent.
+	 * 
+	 * @param channelKek Stored {@link ChannelKek}
+	 * @return {@link KeyEncryptionKey} or empty value if the key cannot be
+	 *         recovered
+	 */
+	private Optional<KeyEncryptionKey> recover(ChannelKek channelKek) {
+		try {
+			byte[] kek = encryptionUtility.unwrapKey(CommonUtility.decode(channelKek.getWrappedKek()),
+					KeyWrapAlgorithm.RSA_OAEP, channelKek.getKeyId());
+			KeyEncryptionKey keyEncryptionKey = KeyEncryptionKey.getInstance(channelKek.getKekId(),
+					channelKek.getChannelId(), new SecretKeySpec(kek, AppProperties.strProperty("aes.instance")),
+					channelKek.getExpiresAt());
+			keks.put(channelKek.getKekId(), keyEncryptionKey);
+			return Optional.of(keyEncryptionKey);
+		} catch (AppException e) {
+			Log.warn(this.getClass().getSimpleName(), "recover", "key encryption key %s not recovered: %s",
+					channelKek.getKekId(), e.getDescription());
+			return Optional.empty();
+		}
+	}
+}
@@ -1,14 +1,38 @@
 package com.encryption.services.impl;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import javax.crypto.SecretKey;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
+import com.encryption.crypto.AesGcmCipherSuite;
+import com.encryption.crypto.CipherSuite;
+import com.encryption.crypto.CipherSuiteRegistry;
+import com.encryption.crypto.Envelope;
+import com.encryption.crypto.KeyEncryptionKey;
+import com.encryption.crypto.KeyWrapAlgorithm;
+import com.encryption.crypto.SignatureAlgorithm;
 import com.encryption.exception.AppException;
+import com.encryption.services.ChannelKekService;
 import com.encryption.services.EncryptionService;
 import com.encryption.utility.CommonUtility;
+import com.encryption.utility.CompressionUtility;
+import com.encryption.utility.DataKeyCache;
 import com.encryption.utility.EncryptionUtility;
+import com.encryption.utility.RandomMaterialUtility;
+import com.encryption.utility.StreamEncryptionUtility;
+import com.encryption.utility.UnwrappedKeyCache;
+import com.model.dto.AppError;
 import com.model.dto.Encryption;
 import com.model.enums.Codes;
 import com.utilities.property.AppProperties;
@@ -40,6 +64,52 @@ public class EncryptionServiceImpl implements EncryptionService {
 	 */
 	private EncryptionUtility encryptionUtility;
 
+	/**
+	 * Private variable of {@link StreamEncryptionUtility} class
+	 */
+	private StreamEncryptionUtility streamEncryptionUtility;
+
+	/**
+	 * Private variable of {@link RandomMaterialUtility} class
+	 */
+	private RandomMaterialUtility randomMaterialUtility;
+
+	/**
+	 * Private variable of {@link CipherSuiteRegistry} class
+	 */
+	private CipherSuiteRegistry cipherSuiteRegistry;
+
+	/**
+	 * Private variable of {@link CompressionUtility} class
+	 */
+	private CompressionUtility compressionUtility;
+
+	/**
+	 * Private variable of {@link DataKeyCache} class
+	 */
+	private DataKeyCache dataKeyCache;
+
+	/**
+	 * Private variable of {@link UnwrappedKeyCache} class
+	 */
+	private UnwrappedKeyCache unwrappedKeyCache;
+
+	/**
+	 * {@link ChannelKekService} interface parameter
+	 */
+	private ChannelKekService channelKekService;
+
+	/**
+	 * Bounded {@link Executor} processing the items of a batch
+	 */
+	private Executor batchExecutor;
+
+	/**
+	 * Bounded {@link Executor} creating digital signatures in parallel with the
+	 * encryption
+	 */
+	private Executor signExecutor;
+
 	/**
 	 * Method to encrypt the plain request body.
 	 * 
@@ -53,18 +123,84 @@ public class EncryptionServiceImpl implements EncryptionService {
 	 * all the values mentioned separated by a period(.).
 	 * </p>
 	 * 
+	 * <p>
+	 * The data is returned in the {@code v1} format unless the channel opted in
+	 * to the {@code v2} {@link Envelope}, carrying a random raw {@code AES} data
+	 * key and skipping the {@code PBKDF2} key derivation, with property
+	 * 'envelope.version.&lt;channel id&gt;' or for every channel with property
+	 * 'envelope.version'.
+	 * </p>
+	 * 
 	 */
 	@Override
 	public Encryption encrypt(Encryption plainBody) throws AppException {
-		String pass = CommonUtility.generateRandomString(AppProperties.intProperty("aes.pass.length"));
-		String salt = CommonUtility.generateRandomString(AppProperties.intProperty("aes.salt.length"));
+		String channelId = EncryptionUtility.channelId(plainBody.getRefNo());
+		if (envelopeVersion(channelId) < 2)
+			return encryptV1(plainBody, channelId);
+
+		return Encryption.getInstance(plainBody.getRefNo(), CommonUtility.getCurrentTimeStamp(), Codes.S00,
+				seal(plainBody.getData().getBytes(StandardCharsets.UTF_8), channelId).encode());
+	}
+
+	/**
+	 * Method to encrypt raw plain bytes.
+	 * 
+	 * <p>
+	 * This method is the implementation of
+	 * {@link EncryptionService#encrypt(byte[], String)} which encrypts the data
+	 * exactly like {@link #encrypt(Encryption)} and returns the {@code v2}
+	 * {@link Envelope} in its binary form. The {@code v1} format has no binary
+	 * form, so the request is rejected while the envelope version of the channel
+	 * is below 2.
+	 * </p>
+	 * 
+	 */
+	@Override
+	public byte[] encrypt(byte[] plainData, String refNo) throws AppException {
+		String channelId = EncryptionUtility.channelId(refNo);
+		int version = envelopeVersion(channelId);
+		if (version < 2)
+			throw AppException.getInstance("Binary envelope is not available for envelope version " + version,
+					"Request the encrypted data as JSON", Codes.ERR01, HttpStatus.NOT_ACCEPTABLE);
+
+		return seal(plainData, channelId).toBytes();
+	}
+
+	/**
+	 * Method to get the envelope version produced for a channel, mentioned in
+	 * configurations with property 'envelope.version.&lt;channel id&gt;' and
+	 * defaulting to property 'envelope.version'
+	 * 
+	 * @param channelId Channel id
+	 * @return Envelope version of the channel
+	 */
+	private static int envelopeVersion(String channelId) {
+		String version = AppProperties.strProperty("envelope.version." + channelId);
+		return Objects.isNull(version) || version.isBlank() ? AppProperties.intProperty("envelope.version")
+				: Integer.parseInt(version.trim());
+	}
+
+	/**
+	 * Method to encrypt the plain request body in the {@code v1} format where the
+	 * {@code AES} key is derived from a random password and salt.
+	 * 
+	 * @param plainBody Plain data given by user
+	 * @param channelId Channel id whose public key wraps the keys
+	 * @return {@link Encryption} object with encrypted data
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private Encryption encryptV1(Encryption plainBody, String channelId) throws AppException {
+		CompletableFuture<byte[]> signature = signAsync(plainBody.getData().getBytes(StandardCharsets.UTF_8),
+				encryptionUtility.signatureAlgorithm(channelId));
+		String pass = randomMaterialUtility.randomString(AppProperties.intProperty("aes.pass.length"));
+		String salt = randomMaterialUtility.randomString(AppProperties.intProperty("aes.salt.length"));
 
 		String[] aesEncData = encryptionUtility.aesEncrypt(plainBody.getData(), pass.toCharArray(),
 				salt.getBytes(StandardCharsets.UTF_8));
 		String rsaEncKeys = encryptionUtility
 				.rsaEncrypt(new StringBuilder().append(pass).append(AppProperties.strProperty("period")).append(salt)
-						.append(AppProperties.strProperty("period")).append(aesEncData[1]).toString());
-		String sign = encryptionUtility.sign(plainBody.getData());
+						.append(AppProperties.strProperty("period")).append(aesEncData[1]).toString(), channelId);
+		String sign = CommonUtility.encodedString(await(signature));
 
 		return Encryption.getInstance(plainBody.getRefNo(), CommonUtility.getCurrentTimeStamp(), Codes.S00,
 				CommonUtility.encodedString(
@@ -86,9 +222,18 @@ public class EncryptionServiceImpl implements EncryptionService {
 	 * plain text pay load.
 	 * </p>
 	 * 
+	 * <p>
+	 * Both {@code v2} envelopes and the {@code v1} format are accepted.
+	 * </p>
+	 * 
 	 */
 	@Override
 	public Encryption decrypt(Encryption encryptedBody) throws AppException {
+		String channelId = EncryptionUtility.channelId(encryptedBody.getRefNo());
+		if (Envelope.isVersioned(encryptedBody.getData()))
+			return Encryption.getInstance(encryptedBody.getRefNo(), CommonUtility.getCurrentTimeStamp(), Codes.S00,
+					CommonUtility.bytesToString(open(Envelope.parse(encryptedBody.getData()), channelId)));
+
 		String[] seperatedData = CommonUtility
 				.splitString(CommonUtility.bytesToString(CommonUtility.decode(encryptedBody.getData())), 3);
 
@@ -97,7 +242,7 @@ public class EncryptionServiceImpl implements EncryptionService {
 		String decData = encryptionUtility.aesDecrypt(seperatedData[2], decKeys[0].toCharArray(),
 				decKeys[1].getBytes(StandardCharsets.UTF_8), decKeys[2]);
 
-		if (encryptionUtility.verify(seperatedData[1], decData))
+		if (encryptionUtility.verify(seperatedData[1], decData, channelId))
 			return Encryption.getInstance(encryptedBody.getRefNo(), CommonUtility.getCurrentTimeStamp(), Codes.S00,
 					decData);
 
@@ -105,4 +250,401 @@ public class EncryptionServiceImpl implements EncryptionService {
 			throw AppException.getInstance("Verification Failed!", "Digital Signature not verified.", Codes.ERR02,
 					HttpStatus.UNAUTHORIZED);
 	}
+
+	/**
+	 * Method to encrypt a stream of plain data.
+	 * 
+	 * <p>
+	 * This method is the implementation of
+	 * {@link EncryptionService#encrypt(InputStream, OutputStream, String)} which
+	 * encrypts the data in segments using {@link StreamEncryptionUtility} so that
+	 * the pay load is never held in memory as a whole.
+	 * </p>
+	 * 
+	 */
+	@Override
+	public void encrypt(InputStream plainData, OutputStream encryptedData, String refNo) throws AppException {
+		streamEncryptionUtility.encrypt(plainData, encryptedData, EncryptionUtility.channelId(refNo));
+	}
+
+	/**
+	 * Method to decrypt a stream of encrypted data.
+	 * 
+	 * <p>
+	 * This method is the implementation of
+	 * {@link EncryptionService#decrypt(InputStream, OutputStream, String)} which
+	 * decrypts the data in segments using {@link StreamEncryptionUtility} so that
+	 * the pay load is never held in memory as a whole.
+	 * </p>
+	 * 
+	 */
+	@Override
+	public void decrypt(InputStream encryptedData, OutputStream plainData, String refNo) throws AppException {
+		streamEncryptionUtility.decrypt(encryptedData, plainData, EncryptionUtility.channelId(refNo));
+	}
+
+	/**
+	 * Method to decrypt a binary envelope.
+	 * 
+	 * <p>
+	 * This method is the implementation of
+	 * {@link EncryptionService#decrypt(byte[], String)} which decrypts the binary
+	 * form of a {@code v2} {@link Envelope} returning the raw plain bytes.
+	 * </p>
+	 * 
+	 */
+	@Override
+	public byte[] decrypt(byte[] encryptedData, String refNo) throws AppException {
+		return open(Envelope.fromBytes(encryptedData), EncryptionUtility.channelId(refNo));
+	}
+
+	/**
+	 * Method to build a {@code v2} {@link Envelope} by encrypting the data with a
+	 * random raw data key of the channel cipher suite, wrapping the key with the Public key and
+	 * signing the data with the Private key. Signatures other than
+	 * {@link SignatureAlgorithm#RS256}, key wraps other than
+	 * {@link KeyWrapAlgorithm#RSA_OAEP} and cipher suites other than
+	 * {@link AesGcmCipherSuite} are recorded in the header. Data selected by
+	 * {@link CompressionUtility} is compressed before the encryption when it
+	 * shrinks, the signature still covers the plain data. When the channel opted
+	 * in to key encryption keys and holds one the data key is wrapped under it with
+	 * {@link KeyWrapAlgorithm#AES_KW}, otherwise the data key comes from
+	 * {@link DataKeyCache} and a reused key is named in the header by its id.
+	 * Data small enough for the {@code RSA} key of a channel without a key
+	 * encryption key is sealed with {@link #sealDirect(byte[], String, SignatureAlgorithm, CompletableFuture)}
+	 * instead.
+	 * 
+	 * @param data      Plain data bytes
+	 * @param channelId Channel id whose public key wraps the data key
+	 * @return {@link Envelope} with all the segments set
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private Envelope seal(byte[] data, String channelId) throws AppException {
+		SignatureAlgorithm algorithm = encryptionUtility.signatureAlgorithm(channelId);
+		CompletableFuture<byte[]> signature = signAsync(data, algorithm);
+		Optional<KeyEncryptionKey> kek = channelKekService.currentKek(channelId);
+		KeyWrapAlgorithm keyWrapAlgorithm = kek.isPresent() ? KeyWrapAlgorithm.AES_KW
+				: encryptionUtility.keyWrapAlgorithm(channelId);
+		if (direct(data, channelId, keyWrapAlgorithm))
+			return sealDirect(data, channelId, algorithm, signature);
+
+		CipherSuite suite = cipherSuiteRegistry.channelSuite(channelId);
+		Envelope envelope = Envelope.getInstance();
+		SecretKey dataKey;
+		byte[] wrappedKey;
+		if (kek.isPresent()) {
+			envelope.attribute(Envelope.KEK_ID, kek.get().getId());
+			dataKey = encryptionUtility.dataKey(suite);
+			wrappedKey = encryptionUtility.kekWrap(dataKey.getEncoded(), kek.get().getKey());
+		} else {
+			DataKeyCache.DataKey cached = dataKeyCache.dataKey(channelId, suite, keyWrapAlgorithm);
+			if (Objects.nonNull(cached.getId()))
+				envelope.attribute(Envelope.DATA_KEY_ID, cached.getId());
+			dataKey = cached.getKey();
+			wrappedKey = cached.getWrappedKey();
+		}
+		if (!SignatureAlgorithm.RS256.equals(algorithm))
+			envelope.attribute(Envelope.SIGNATURE_ALGORITHM, algorithm.name());
+		if (!KeyWrapAlgorithm.RSA_OAEP.equals(keyWrapAlgorithm))
+			envelope.attribute(Envelope.KEY_WRAP_ALGORITHM, keyWrapAlgorithm.getHeaderName());
+		if (!AesGcmCipherSuite.NAME.equals(suite.getName()))
+			envelope.attribute(Envelope.CIPHER_SUITE, suite.getName());
+
+		byte[] body = data;
+		if (compressionUtility.compressible(data)) {
+			byte[] compressed = compressionUtility.deflate(data);
+			if (compressed.length < data.length) {
+				envelope.attribute(Envelope.COMPRESSION, CompressionUtility.DEFLATE);
+				body = compressed;
+			}
+		}
+
+		byte[][] encData = encryptionUtility.encrypt(body, dataKey, envelope.aad(), suite);
+		envelope.setCipherText(encData[0]);
+		envelope.setIv(encData[1]);
+		envelope.setWrappedKey(wrappedKey);
+		envelope.setSignature(await(signature));
+		return envelope;
+	}
+
+	/**
+	 * Method to check whether the data is encrypted directly with
+	 * {@code RSA-OAEP}: enabled with property 'rsa.direct.enabled', the channel
+	 * wraps keys with {@link KeyWrapAlgorithm#RSA_OAEP} and the data fits in a
+	 * single {@code RSA} block of the channel key
+	 * 
+	 * @param data             Plain data bytes
+	 * @param channelId        Channel id whose public key encrypts the data
+	 * @param keyWrapAlgorithm {@link KeyWrapAlgorithm} chosen for the channel
+	 * @return Boolean value determining whether the data is sealed directly
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private boolean direct(byte[] data, String channelId, KeyWrapAlgorithm keyWrapAlgorithm)
+			throws AppException {
+		return Boolean.parseBoolean(AppProperties.strProperty("rsa.direct.enabled"))
+				&& KeyWrapAlgorithm.RSA_OAEP.equals(keyWrapAlgorithm)
+				&& data.length <= encryptionUtility.rsaDataLimit(channelId);
+	}
+
+	/**
+	 * Method to seal data into a {@code v2} {@link Envelope} tagged
+	 * {@code mode=RSA} by encrypting it directly with the Public key of the
+	 * channel, skipping the data key, the cipher suite and the compression. The
+	 * wrapped key and iv segments are left empty and the data is still signed
+	 * with the Private key.
+	 * 
+	 * @param data      Plain data bytes, within
+	 *                  {@link EncryptionUtility#rsaDataLimit(String)}
+	 * @param channelId Channel id whose public key encrypts the data
+	 * @param algorithm {@link SignatureAlgorithm} of the channel
+	 * @param signature {@link CompletableFuture} of the signature
+	 * @return {@link Envelope} with all the segments set
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private Envelope sealDirect(byte[] data, String channelId, SignatureAlgorithm algorithm,
+			CompletableFuture<byte[]> signature) throws AppException {
+		Envelope envelope = Envelope.getInstance();
+		envelope.attribute(Envelope.MODE, Envelope.MODE_RSA);
+		if (!SignatureAlgorithm.RS256.equals(algorithm))
+			envelope.attribute(Envelope.SIGNATURE_ALGORITHM, algorithm.name());
+
+		envelope.setCipherText(encryptionUtility.rsaEncrypt(data, channelId));
+		envelope.setIv(new byte[0]);
+		envelope.setWrappedKey(new byte[0]);
+		envelope.setSignature(await(signature));
+		return envelope;
+	}
+
+	/**
+	 * Method to start signing the plain data. When enabled with property
+	 * 'sign.parallel.enabled' the signature is created on the sign pool while the
+	 * caller derives, encrypts and wraps the keys, otherwise it is created right
+	 * away on the calling thread.
+	 * 
+	 * @param data      Plain data bytes
+	 * @param algorithm {@link SignatureAlgorithm} of the channel
+	 * @return {@link CompletableFuture} completed with the signature bytes
+	 */
+	private CompletableFuture<byte[]> signAsync(byte[] data, SignatureAlgorithm algorithm) {
+		if (Boolean.parseBoolean(AppProperties.strProperty("sign.parallel.enabled")))
+			return CompletableFuture.supplyAsync(() -> {
+				try {
+					return encryptionUtility.sign(data, algorithm);
+				} catch (AppException e) {
+					throw new CompletionException(e);
+				}
+			}, signExecutor);
+
+		try {
+			return CompletableFuture.completedFuture(encryptionUtility.sign(data, algorithm));
+		} catch (AppException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+	}
+
+	/**
+	 * Method to wait for the signature started with {@link #signAsync(byte[], SignatureAlgorithm)}
+	 * 
+	 * @param signature {@link CompletableFuture} of the signature
+	 * @return Signature bytes
+	 * @throws AppException Thrown when the signing failed
+	 */
+	private byte[] await(CompletableFuture<byte[]> signature) throws AppException {
+		try {
+			return signature.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof AppException appException)
+				throw appException;
+			throw AppException.getInstance("Error occured while signing the data", e.getMessage(), Codes.ERR01,
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * Method to open a {@code v2} {@link Envelope} by unwrapping the raw data key,
+	 * unless {@link UnwrappedKeyCache} already holds it, with the Private key of
+	 * the key id and the key wrap algorithm named in the header, or with the key
+	 * encryption key of the channel named in the header,
+	 * decrypting the pay load with it using the cipher suite named in the header,
+	 * inflating it when the header names a compression and verifying the digital
+	 * signature. An envelope tagged {@code mode=RSA} is decrypted directly with
+	 * the Private key of the key id instead. The signature algorithm recorded in
+	 * the header must match the channel public key.
+	 * 
+	 * @param envelope  Parsed {@link Envelope}
+	 * @param channelId Channel id whose public key verifies the signature
+	 * @return Decrypted data bytes
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private byte[] open(Envelope envelope, String channelId) throws AppException {
+		String algorithm = envelope.attribute(Envelope.SIGNATURE_ALGORITHM);
+		if (!encryptionUtility.signatureAlgorithm(channelId)
+				.equals(Objects.isNull(algorithm) ? SignatureAlgorithm.RS256 : SignatureAlgorithm.fromName(algorithm)))
+			throw AppException.getInstance("Signature algorithm does not match the channel key",
+					"Sign the data with the key registered for the channel", Codes.ERR02, HttpStatus.UNAUTHORIZED);
+
+		String mode = envelope.attribute(Envelope.MODE);
+		byte[] decData;
+		if (Objects.isNull(mode))
+			decData = openData(envelope, channelId);
+		else if (Envelope.MODE_RSA.equals(mode))
+			decData = encryptionUtility.rsaDecrypt(envelope.getCipherText(), envelope.attribute(Envelope.KEY_ID));
+		else
+			throw AppException.getInstance("Unsupported mode: " + mode, "Pass a supported mode", Codes.ERR01,
+					HttpStatus.BAD_REQUEST);
+
+		String compression = envelope.attribute(Envelope.COMPRESSION);
+		if (Objects.nonNull(compression)) {
+			if (!CompressionUtility.DEFLATE.equals(compression))
+				throw AppException.getInstance("Unsupported compression: " + compression,
+						"Pass a supported compression", Codes.ERR01, HttpStatus.BAD_REQUEST);
+			decData = compressionUtility.inflate(decData);
+		}
+
+		if (encryptionUtility.verify(envelope.getSignature(), decData, channelId))
+			return decData;
+
+		else
+			throw AppException.getInstance("Verification Failed!", "Digital Signature not verified.", Codes.ERR02,
+					HttpStatus.UNAUTHORIZED);
+	}
+
+	/**
+	 * Method to decrypt the cipher text of an envelope with its data key,
+	 * unwrapped with the key wrap algorithm named in the header
+	 * 
+	 * @param envelope  Parsed {@link Envelope} without a mode
+	 * @param channelId Channel id the key encryption key must belong to
+	 * @return Decrypted, possibly compressed, data bytes
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private byte[] openData(Envelope envelope, String channelId) throws AppException {
+		String keyWrapHeader = envelope.attribute(Envelope.KEY_WRAP_ALGORITHM);
+		KeyWrapAlgorithm keyWrapAlgorithm = Objects.isNull(keyWrapHeader) ? KeyWrapAlgorithm.RSA_OAEP
+				: KeyWrapAlgorithm.fromHeaderName(keyWrapHeader);
+		CipherSuite suite = cipherSuiteRegistry.suite(envelope.attribute(Envelope.CIPHER_SUITE));
+		SecretKey dataKey = suite.key(KeyWrapAlgorithm.AES_KW.equals(keyWrapAlgorithm)
+				? encryptionUtility.kekUnwrap(envelope.getWrappedKey(), kek(envelope, channelId).getKey())
+				: unwrappedKeyCache.unwrapKey(envelope.getWrappedKey(), keyWrapAlgorithm,
+						envelope.attribute(Envelope.KEY_ID)));
+		return encryptionUtility.decrypt(envelope.getCipherText(), dataKey, envelope.getIv(), envelope.aad(),
+				suite);
+	}
+
+	/**
+	 * Method to get the key encryption key named in the header of an envelope
+	 * whose data key is wrapped with {@link KeyWrapAlgorithm#AES_KW}
+	 * 
+	 * @param envelope  Parsed {@link Envelope}
+	 * @param channelId Channel id the key must belong to
+	 * @return {@link KeyEncryptionKey} object
+	 * @throws AppException Thrown when the header names no valid key of the
+	 *                      channel
+	 */
+	private KeyEncryptionKey kek(Envelope envelope, String channelId) throws AppException {
+		String kekId = envelope.attribute(Envelope.KEK_ID);
+		if (Objects.isNull(kekId))
+			throw AppException.getInstance("Key encryption key id is missing",
+					"Name the key encryption key in the header", Codes.ERR01, HttpStatus.BAD_REQUEST);
+		return channelKekService.kek(kekId, channelId);
+	}
+
+	/**
+	 * Method to encrypt a batch of plain request bodies.
+	 * 
+	 * <p>
+	 * This method is the implementation of
+	 * {@link EncryptionService#encryptBatch(List)} which encrypts every item like
+	 * {@link #encrypt(Encryption)} in parallel on the batch pool. A failing item is
+	 * reported as an {@link AppError} in its place without failing the rest of the
+	 * batch.
+	 * </p>
+	 * 
+	 */
+	@Override
+	public List<Object> encryptBatch(List<Encryption> plainBodies) throws AppException {
+		return batch(plainBodies, this::encrypt);
+	}
+
+	/**
+	 * Method to decrypt a batch of encrypted request bodies.
+	 * 
+	 * <p>
+	 * This method is the implementation of
+	 * {@link EncryptionService#decryptBatch(List)} which decrypts every item like
+	 * {@link #decrypt(Encryption)} in parallel on the batch pool. A failing item is
+	 * reported as an {@link AppError} in its place without failing the rest of the
+	 * batch.
+	 * </p>
+	 * 
+	 */
+	@Override
+	public List<Object> decryptBatch(List<Encryption> encryptedBodies) throws AppException {
+		return batch(encryptedBodies, this::decrypt);
+	}
+
+	/**
+	 * Method to run an operation on every item of a batch in parallel and collect
+	 * the results in the order of the items
+	 * 
+	 * @param items     Items of the batch
+	 * @param operation Operation performed on every item
+	 * @return Result or error of every item
+	 * @throws AppException Thrown when the batch is empty or exceeds the size
+	 *                      mentioned in configurations with property
+	 *                      'batch.max.items'
+	 */
+	private List<Object> batch(List<Encryption> items, BatchOperation operation) throws AppException {
+		if (Objects.isNull(items) || items.isEmpty() || items.size() > AppProperties.intProperty("batch.max.items"))
+			throw AppException.getInstance("Invalid batch size",
+					"Pass between 1 and " + AppProperties.intProperty("batch.max.items") + " items", Codes.ERR07,
+					HttpStatus.BAD_REQUEST);
+
+		List<CompletableFuture<Object>> results = items.stream()
+				.map(item -> CompletableFuture.supplyAsync(() -> process(item, operation), batchExecutor)).toList();
+		return results.stream().map(CompletableFuture::join).toList();
+	}
+
+	/**
+	 * Method to run an operation on a single item of a batch, converting any
+	 * failure into an {@link AppError}
+	 * 
+	 * @param item      Item of the batch
+	 * @param operation Operation performed on the item
+	 * @return {@link Encryption} result of the item or {@link AppError} describing
+	 *         its failure
+	 */
+	private Object process(Encryption item, BatchOperation operation) {
+		String refNo = Objects.isNull(item) ? null : item.getRefNo();
+		try {
+			if (Objects.isNull(item) || Objects.isNull(item.getRefNo()) || Objects.isNull(item.getData()))
+				throw AppException.getInstance("Reference number and data are mandatory",
+						"Mandatory parameter does not satisfy the requirement. Please check the request", Codes.ERR07,
+						HttpStatus.BAD_REQUEST);
+
+			return operation.apply(item);
+		} catch (AppException e) {
+			return AppError.getInstance(refNo, CommonUtility.getCurrentTimeStamp(), e.getCode(), e.getMessage(),
+					e.getDescription());
+		} catch (RuntimeException e) {
+			return AppError.getInstance(refNo, CommonUtility.getCurrentTimeStamp(), Codes.ERR01,
+					"Something went wrong!! Kindly contact administrator", e.getMessage());
+		}
+	}
+
+	/**
+	 * Operation performed on every item of a batch
+	 */
+	@FunctionalInterface
+	private interface BatchOperation {
+
+		/**
+		 * Method to process a single item
+		 * 
+		 * @param item Item of the batch
+		 * @return Processed item
+		 * @throws AppException Thrown when a custom exception occurs
+		 */
+		Encryption apply(Encryption item) throws AppException;
+	}
 }
@@ -18,6 +18,11 @@
  * to handle auditing request and responses.</li>
  * <li>{@link com.encryption.services.impl.UserDetailServiceImpl} - Implements
  * logic to provide the user details present in data base.</li>
+ * <li>{@link com.encryption.services.impl.ChannelKekServiceImpl} - Implements
+ * logic to establish and recover the key encryption keys of the channels.</li>
+ * <li>{@link com.encryption.services.impl.ChannelAgreementKeyServiceImpl} -
+ * Implements logic to register and cache the key agreement keys of the
+ * channels.</li>
  * </ul>
  * 
  * <p>
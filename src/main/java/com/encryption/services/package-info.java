@@ -16,6 +16,10 @@
  * and responses.</li>
  * <li>{@link com.encryption.services.UserDetailService} - Handles user
  * management.</li>
+ * <li>{@link com.encryption.services.ChannelKekService} - Handles the key
+ * encryption keys of the channels.</li>
+ * <li>{@link com.encryption.services.ChannelAgreementKeyService} - Handles the
+ * key agreement keys of the channels.</li>
  * </ul>
  *
  * <p>
@@ -10,6 +10,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.encryption.crypto.CryptoPrimitives;
 import com.encryption.exception.AppException;
 import com.model.dto.AppProps.AppProperty;
 import com.model.enums.Codes;
@@ -63,7 +64,8 @@ public class AppPropertiesInit {
 	/**
 	 * Method to refresh the cached property file at a given interval mentioned in
 	 * the {@code application.properties} file with property
-	 * 'config.cache.reload.hour'
+	 * 'config.cache.reload.hour' and to drop the pooled {@link CryptoPrimitives}
+	 * so algorithm changes take effect
 	 * 
 	 * 
 	 * @see <a href =
@@ -72,6 +74,7 @@ public class AppPropertiesInit {
 	@Scheduled(cron = "${config.cache.reload.hour}")
 	public void refreshProperties() {
 		appRoperties.refreshProperties(configPath);
+		CryptoPrimitives.invalidate();
 	}
 
 	/**
@@ -1,8 +1,6 @@
 package com.encryption.utility;
 
 import java.nio.charset.StandardCharsets;
-import java.security.NoSuchAlgorithmException;
-import java.security.SecureRandom;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Base64;
@@ -100,25 +98,6 @@ public class CommonUtility {
 		return speratedText;
 	}
 
-	/**
-	 * Method to generate random alphanumeric string
-	 * 
-	 * @param length length of the required string
-	 * @return Random alphanumeric string of input length
-	 * @throws AppException Thrown when a custom exception occurs
-	 */
-	public static String generateRandomString(int length) throws AppException {
-		try {
-			return SecureRandom.getInstance(AppProperties.strProperty("secure.instance"))
-					.ints(48/* character 0 */, 122/* character z */ + 1)
-					.filter(i -> (i < 58 || i > 66) && (i < 91 || i > 98)).limit(length)
-					.collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append).toString();
-		} catch (NoSuchAlgorithmException e) {
-			throw AppException.getInstance("Error in initiating SecureRandom to generate Random String", e.getMessage(),
-					Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
-		}
-	}
-
 	/**
 	 * Method to get the current time stamp string in a pre-defined format
 	 * 
@@ -148,6 +127,16 @@ public class CommonUtility {
 		return Objects.nonNull(request.getAttribute("ref-no")) ? request.getAttribute("ref-no").toString() : null;
 	}
 
+	/**
+	 * Method to cache the reference number of a request whose body is not read as
+	 * JSON, such as streamed pay loads
+	 * 
+	 * @param refNo Reference number
+	 */
+	public static void setRefNo(String refNo) {
+		request.setAttribute("ref-no", refNo);
+	}
+
 	/**
 	 * Method to get Servlet-Path of the request
 	 * 
@@ -0,0 +1,157 @@
+package com.encryption.utility;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+import com.utilities.property.AppProperties;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+
+/**
+ * This class provides the optional compression of the plain data before it is
+ * encrypted.
+ *
+ * <p>
+ * Compression is enabled with property 'compression.enabled' and applied with
+ * {@link Deflater} at the level mentioned with property 'compression.level' to
+ * pay loads of at least property 'compression.min.size' bytes. Data that does
+ * not shrink is left as it is. Inflated data is limited to property
+ * 'compression.max.inflated.size' bytes so a small pay load cannot expand
+ * without bounds.
+ * </p>
+ *
+ * <p>
+ * The ratio of plain to compressed size is published as
+ * {@code crypto.compression.ratio} and the time spent as
+ * {@code crypto.compression.time}, tagged with the operation.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html">
+ *      Component </a>
+ * @author Kabir Akware
+ */
+@Component
+@AllArgsConstructor
+public class CompressionUtility {
+
+	/**
+	 * Name of the {@code Deflate} compression recorded in the envelope header
+	 */
+	public static final String DEFLATE = "DEF";
+
+	/**
+	 * Size of the buffer used while compressing and inflating
+	 */
+	private static final int BUFFER_SIZE = 8192;
+
+	/**
+	 * {@link MeterRegistry} publishing the compression metrics
+	 */
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Method to check whether the data should be compressed before encryption
+	 *
+	 * @param data Plain data bytes
+	 * @return {@code true} when compression is enabled and the data is large
+	 *         enough
+	 */
+	public boolean compressible(byte[] data) {
+		return Boolean.parseBoolean(AppProperties.strProperty("compression.enabled"))
+				&& data.length >= AppProperties.intProperty("compression.min.size");
+	}
+
+	/**
+	 * Method to compress the data with {@link Deflater}
+	 *
+	 * @param data Plain data bytes
+	 * @return Compressed data bytes
+	 */
+	public byte[] deflate(byte[] data) {
+		long start = System.nanoTime();
+		Deflater deflater = new Deflater(AppProperties.intProperty("compression.level"));
+		try {
+			deflater.setInput(data);
+			deflater.finish();
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(data.length / 4, BUFFER_SIZE));
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!deflater.finished())
+				out.write(buffer, 0, deflater.deflate(buffer));
+
+			byte[] compressed = out.toByteArray();
+			record("deflate", data.length, compressed.length, start);
+			return compressed;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	/**
+	 * Method to inflate data compressed with {@link #deflate(byte[])}
+	 *
+	 * @param data Compressed data bytes
+	 * @return Plain data bytes
+	 * @throws AppException Thrown when the data is corrupt or inflates beyond the
+	 *                      configured limit
+	 */
+	public byte[] inflate(byte[] data) throws AppException {
+		long start = System.nanoTime();
+		int maxSize = AppProperties.intProperty("compression.max.inflated.size");
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(data);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(Math.min(data.length * 4, maxSize));
+			byte[] buffer = new byte[BUFFER_SIZE];
+			while (!inflater.finished()) {
+				int length = inflater.inflate(buffer);
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+					throw AppException.getInstance("Compressed data is incomplete", "Pass valid compressed data",
+							Codes.ERR01, HttpStatus.BAD_REQUEST);
+				if (out.size() + length > maxSize)
+					throw AppException.getInstance("Inflated data exceeds " + maxSize + " bytes",
+							"Pass smaller data for decryption", Codes.ERR01, HttpStatus.BAD_REQUEST);
+				out.write(buffer, 0, length);
+			}
+
+			byte[] plain = out.toByteArray();
+			record("inflate", plain.length, data.length, start);
+			return plain;
+		} catch (DataFormatException e) {
+			throw AppException.getInstance("Compressed data is corrupt", e.getMessage(), Codes.ERR01,
+					HttpStatus.BAD_REQUEST);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Method to record the compression ratio and the time spent
+	 *
+	 * @param operation      Compression operation, {@code deflate} or
+	 *                       {@code inflate}
+	 * @param plainSize      Size of the plain data
+	 * @param compressedSize Size of the compressed data
+	 * @param start          Start time in nanoseconds
+	 */
+	private void record(String operation, int plainSize, int compressedSize, long start) {
+		Timer.builder("crypto.compression.time").description("Time spent compressing or inflating the data")
+				.tag("operation", operation).register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		DistributionSummary.builder("crypto.compression.ratio").description("Plain size over compressed size")
+				.tag("operation", operation).register(meterRegistry)
+				.record(compressedSize == 0 ? 0 : (double) plainSize / compressedSize);
+	}
+}
@@ -0,0 +1,249 @@
+package com.encryption.utility;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.stereotype.Component;
+
+import com.encryption.config.ApplicationInit;
+import com.encryption.crypto.CipherSuite;
+import com.encryption.crypto.KeyWrapAlgorithm;
+import com.encryption.exception.AppException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.utilities.property.AppProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * This class provides the data keys of the {@code v2} envelopes, optionally
+ * reusing one wrapped data key per channel across several messages so most
+ * encryptions skip the public key operation of the key wrap.
+ *
+ * <p>
+ * Reuse is enabled with property 'data.key.cache.enabled'. A cached key is
+ * used for at most property 'data.key.cache.max.messages' messages and at most
+ * property 'data.key.cache.max.seconds' seconds after it is generated, and is
+ * dropped as soon as the channel public key, key wrap algorithm or cipher
+ * suite changes. Every message still gets a fresh random nonce and its own
+ * signature. At most property 'data.key.cache.max.channels' channels keep a
+ * key.
+ * </p>
+ *
+ * <p>
+ * A reused key is named in the envelope header by a random data key id, so the
+ * receiver can recognise it and skip the unwrap as well. Without reuse every
+ * message gets its own key and no id.
+ * </p>
+ *
+ * <p>
+ * Note: Messages sharing a key also share the wrapped key segment, so they can
+ * be linked to each other by an observer, and a compromised key exposes all of
+ * them. Keep the bounds small.
+ * </p>
+ *
+ * <p>
+ * The number of data keys served is published as {@code crypto.data.key},
+ * tagged with whether the key was {@code generated} or {@code reused}.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.aws.amazon.com/encryption-sdk/latest/developer-guide/data-key-caching.html">
+ *      Data key caching</a>
+ * @author Kabir Akware
+ */
+@Component
+public class DataKeyCache {
+
+	/**
+	 * Number of random bytes of a data key id
+	 */
+	private static final int ID_LENGTH = 12;
+
+	/**
+	 * Custom constructor to load the dependencies and build the cache
+	 *
+	 * @param encryptionUtility     {@link EncryptionUtility} object
+	 * @param randomMaterialUtility {@link RandomMaterialUtility} object
+	 * @param applicationInit       {@link ApplicationInit} object
+	 * @param meterRegistry         {@link MeterRegistry} object
+	 */
+	public DataKeyCache(EncryptionUtility encryptionUtility, RandomMaterialUtility randomMaterialUtility,
+			ApplicationInit applicationInit, MeterRegistry meterRegistry) {
+		this.encryptionUtility = encryptionUtility;
+		this.randomMaterialUtility = randomMaterialUtility;
+		this.applicationInit = applicationInit;
+		this.meterRegistry = meterRegistry;
+		this.cache = Caffeine.newBuilder().maximumSize(AppProperties.intProperty("data.key.cache.max.channels"))
+				.expireAfterWrite(Duration.ofSeconds(AppProperties.intProperty("data.key.cache.max.seconds")))
+				.build();
+	}
+
+	/**
+	 * {@link EncryptionUtility} object parameter
+	 */
+	private EncryptionUtility encryptionUtility;
+
+	/**
+	 * {@link RandomMaterialUtility} object parameter
+	 */
+	private RandomMaterialUtility randomMaterialUtility;
+
+	/**
+	 * {@link ApplicationInit} object parameter
+	 */
+	private ApplicationInit applicationInit;
+
+	/**
+	 * {@link MeterRegistry} recording the data keys served
+	 */
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Cached data keys mapped to the channel id
+	 */
+	private final Cache<String, DataKey> cache;
+
+	/**
+	 * Method to get the data key of a message for a channel, reusing the cached
+	 * key of the channel when reuse is enabled and the key is still within its
+	 * bounds
+	 *
+	 * @param channelId        Channel id whose public key wraps the data key
+	 * @param suite            {@link CipherSuite} of the channel
+	 * @param keyWrapAlgorithm {@link KeyWrapAlgorithm} of the channel
+	 * @return {@link DataKey} of the message
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public DataKey dataKey(String channelId, CipherSuite suite, KeyWrapAlgorithm keyWrapAlgorithm)
+			throws AppException {
+		if (!Boolean.parseBoolean(AppProperties.strProperty("data.key.cache.enabled")))
+			return generate(channelId, suite, keyWrapAlgorithm, null, null);
+
+		PublicKey publicKey = applicationInit.publicKey(channelId).orElse(null);
+		DataKey dataKey = cache.getIfPresent(channelId);
+		if (Objects.nonNull(dataKey) && dataKey.matches(suite, keyWrapAlgorithm, publicKey) && dataKey.use()) {
+			record("reused");
+			return dataKey;
+		}
+
+		dataKey = generate(channelId, suite, keyWrapAlgorithm, publicKey, Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(randomMaterialUtility.bytes(ID_LENGTH)));
+		dataKey.use();
+		cache.put(channelId, dataKey);
+		return dataKey;
+	}
+
+	/**
+	 * Method to generate a data key for the suite and wrap it for the channel
+	 *
+	 * @param channelId        Channel id whose public key wraps the data key
+	 * @param suite            {@link CipherSuite} of the channel
+	 * @param keyWrapAlgorithm {@link KeyWrapAlgorithm} of the channel
+	 * @param publicKey        Channel public key the key is wrapped for, kept to
+	 *                         detect key changes
+	 * @param id               Data key id or {@code null} when the key is not
+	 *                         reused
+	 * @return New {@link DataKey}
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private DataKey generate(String channelId, CipherSuite suite, KeyWrapAlgorithm keyWrapAlgorithm,
+			PublicKey publicKey, String id) throws AppException {
+		SecretKey key = encryptionUtility.dataKey(suite);
+		byte[] wrappedKey = encryptionUtility.wrapKey(key.getEncoded(), channelId, keyWrapAlgorithm);
+		record("generated");
+		return new DataKey(id, key, wrappedKey, suite.getName(), keyWrapAlgorithm, publicKey, new AtomicInteger());
+	}
+
+	/**
+	 * Method to record a data key served
+	 *
+	 * @param result {@code generated} or {@code reused}
+	 */
+	private void record(String result) {
+		Counter.builder("crypto.data.key").description("Data keys served").tag("result", result)
+				.register(meterRegistry).increment();
+	}
+
+	/**
+	 * Data key of a message with its wrapped form
+	 */
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static final class DataKey {
+
+		/**
+		 * Data key id named in the envelope, {@code null} when the key is not
+		 * reused
+		 */
+		private final String id;
+
+		/**
+		 * Data key of the suite
+		 */
+		private final SecretKey key;
+
+		/**
+		 * Data key wrapped for the channel
+		 */
+		private final byte[] wrappedKey;
+
+		/**
+		 * Name of the {@link CipherSuite} of the key
+		 */
+		@Getter(AccessLevel.NONE)
+		private final String suite;
+
+		/**
+		 * {@link KeyWrapAlgorithm} of the wrapped key
+		 */
+		@Getter(AccessLevel.NONE)
+		private final KeyWrapAlgorithm keyWrapAlgorithm;
+
+		/**
+		 * Channel public key the key is wrapped for
+		 */
+		@Getter(AccessLevel.NONE)
+		private final PublicKey publicKey;
+
+		/**
+		 * Number of messages encrypted with the key
+		 */
+		@Getter(AccessLevel.NONE)
+		private final AtomicInteger uses;
+
+		/**
+		 * Method to check whether the key was built for the current suite, key wrap
+		 * algorithm and public key of the channel
+		 *
+		 * @param suite            {@link CipherSuite} of the channel
+		 * @param keyWrapAlgorithm {@link KeyWrapAlgorithm} of the channel
+		 * @param publicKey        Current public key of the channel
+		 * @return Boolean value determining whether the key can be reused
+		 */
+		private boolean matches(CipherSuite suite, KeyWrapAlgorithm keyWrapAlgorithm, PublicKey publicKey) {
+			return this.suite.equals(suite.getName()) && this.keyWrapAlgorithm.equals(keyWrapAlgorithm)
+					&& Objects.equals(this.publicKey, publicKey);
+		}
+
+		/**
+		 * Method to count a message encrypted with the key
+		 *
+		 * @return Boolean value determining whether the key is still within the
+		 *         message bound
+		 */
+		private boolean use() {
+			return uses.incrementAndGet() <= AppProperties.intProperty("data.key.cache.max.messages");
+		}
+	}
+}
@@ -1,26 +1,34 @@
 package com.encryption.utility;
 
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
-import java.security.KeyFactory;
-import java.security.KeyStoreException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
 import java.security.PublicKey;
 import java.security.Signature;
 import java.security.SignatureException;
-import java.security.UnrecoverableKeyException;
+import java.security.interfaces.RSAPublicKey;
 import java.security.spec.InvalidKeySpecException;
 import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
+import javax.crypto.KeyAgreement;
+import javax.crypto.Mac;
 import javax.crypto.NoSuchPaddingException;
 import javax.crypto.SecretKey;
-import javax.crypto.SecretKeyFactory;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.PBEKeySpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -29,12 +37,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 
 import com.encryption.config.ApplicationInit;
+import com.encryption.crypto.AesGcmCipherSuite;
+import com.encryption.crypto.CipherSuite;
+import com.encryption.crypto.CipherSuiteRegistry;
+import com.encryption.crypto.CryptoPrimitives;
+import com.encryption.crypto.KeyAgreementCurve;
+import com.encryption.crypto.KeyWrapAlgorithm;
+import com.encryption.crypto.SignatureAlgorithm;
 import com.encryption.exception.AppException;
-import com.model.entity.ChannelDetails;
+import com.encryption.services.ChannelAgreementKeyService;
 import com.model.enums.Codes;
+import com.utilities.exceptions.ConfigException;
 import com.utilities.property.AppProperties;
 
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.annotation.PostConstruct;
 import lombok.AllArgsConstructor;
 
 /**
@@ -56,15 +72,41 @@ import lombok.AllArgsConstructor;
 public class EncryptionUtility {
 
 	/**
-	 * {@link HttpServletRequest} parameter
+	 * Length of the nonce derived for the {@code ECDH-ES} key wrap
 	 */
-	private HttpServletRequest request;
+	private static final int ECDH_NONCE_LENGTH = 12;
+
+	/**
+	 * Digest named in an {@code OAEP} padding of an {@code RSA} transformation
+	 */
+	private static final Pattern OAEP_DIGEST = Pattern.compile("/OAEPWITH(.+)ANDMGF1PADDING$",
+			Pattern.CASE_INSENSITIVE);
+
+	/**
+	 * Bytes taken by the {@code PKCS#1 v1.5} padding
+	 */
+	private static final int PKCS1_OVERHEAD = 11;
 
 	/**
 	 * {@link ApplicationInit} object parameter
 	 */
 	private ApplicationInit applicationInit;
 
+	/**
+	 * {@link RandomMaterialUtility} object parameter
+	 */
+	private RandomMaterialUtility randomMaterialUtility;
+
+	/**
+	 * {@link CipherSuiteRegistry} object parameter
+	 */
+	private CipherSuiteRegistry cipherSuiteRegistry;
+
+	/**
+	 * {@link ChannelAgreementKeyService} object parameter
+	 */
+	private ChannelAgreementKeyService channelAgreementKeyService;
+
 	/**
 	 * Method to encrypt the keys using RSA with ECB mode and OAEP padding scheme
 	 * with SHA-256 and MGF1 padding.
@@ -74,15 +116,42 @@ public class EncryptionUtility {
 	 * suitable for encrypting large files or streams of data.
 	 * </p>
 	 * 
-	 * @param text plain keys in string format
+	 * @param text      plain keys in string format
+	 * @param channelId Channel id whose public key is used
 	 * @return RSA encrypted keys
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
-	public String rsaEncrypt(String text) throws AppException {
+	public String rsaEncrypt(String text, String channelId) throws AppException {
+		return CommonUtility.encodedString(rsaEncrypt(text.getBytes(), channelId));
+	}
+
+	/**
+	 * Method to encrypt raw key material using RSA with ECB mode and OAEP padding
+	 * scheme with SHA-256 and MGF1 padding.
+	 * 
+	 * @param data      plain key material
+	 * @param channelId Channel id whose public key is used
+	 * @return RSA encrypted key material
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] rsaEncrypt(byte[] data, String channelId) throws AppException {
+		return rsaEncrypt(data, channelKey(channelId));
+	}
+
+	/**
+	 * Method to encrypt raw key material using RSA with ECB mode and OAEP padding
+	 * scheme with SHA-256 and MGF1 padding for the given public key.
+	 * 
+	 * @param data      plain key material
+	 * @param publicKey RSA public key of the recipient
+	 * @return RSA encrypted key material
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] rsaEncrypt(byte[] data, PublicKey publicKey) throws AppException {
 		try {
-			Cipher cipher = Cipher.getInstance(AppProperties.strProperty("rsa.algorithm"));
-			cipher.init(Cipher.ENCRYPT_MODE, publicKey(encodedPublic()));
-			return CommonUtility.encodedString(cipher.doFinal(text.getBytes()));
+			Cipher cipher = CryptoPrimitives.cipher(AppProperties.strProperty("rsa.algorithm"));
+			cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+			return cipher.doFinal(data);
 		} catch (NoSuchAlgorithmException e) {
 			throw AppException.getInstance("Invalid algorithm used while encrypting the key", e.getMessage(),
 					Codes.ERR03, HttpStatus.FORBIDDEN);
@@ -115,10 +184,36 @@ public class EncryptionUtility {
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
 	public String rsaDecrypt(String data) throws AppException {
+		return CommonUtility.bytesToString(rsaDecrypt(CommonUtility.decode(data)));
+	}
+
+	/**
+	 * Method to decrypt raw key material using RSA with ECB mode and OAEP padding
+	 * scheme with SHA-256 and MGF1 padding with the current private key.
+	 * 
+	 * @param data RSA encrypted key material
+	 * @return RSA decrypted key material
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] rsaDecrypt(byte[] data) throws AppException {
+		return rsaDecrypt(data, null);
+	}
+
+	/**
+	 * Method to decrypt raw key material using RSA with ECB mode and OAEP padding
+	 * scheme with SHA-256 and MGF1 padding with the private key of a key id.
+	 * 
+	 * @param data  RSA encrypted key material
+	 * @param keyId Key id named in the envelope, or {@code null} for the current
+	 *              private key
+	 * @return RSA decrypted key material
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] rsaDecrypt(byte[] data, String keyId) throws AppException {
 		try {
-			Cipher cipher = Cipher.getInstance(AppProperties.strProperty("rsa.algorithm"));
-			cipher.init(Cipher.DECRYPT_MODE, privateKey());
-			return CommonUtility.bytesToString(cipher.doFinal(CommonUtility.decode(data)));
+			Cipher cipher = CryptoPrimitives.cipher(AppProperties.strProperty("rsa.algorithm"));
+			cipher.init(Cipher.DECRYPT_MODE, privateKey(keyId));
+			return cipher.doFinal(data);
 		} catch (NoSuchAlgorithmException e) {
 			throw AppException.getInstance("Invalid algorithm used while decrypting the key", e.getMessage(),
 					Codes.ERR03, HttpStatus.FORBIDDEN);
@@ -137,6 +232,339 @@ public class EncryptionUtility {
 		}
 	}
 
+	/**
+	 * Method to wrap a raw data key for a channel with the given key wrap
+	 * algorithm
+	 * 
+	 * @param key       Raw data key
+	 * @param channelId Channel id whose public key or key agreement key is used
+	 * @param algorithm {@link KeyWrapAlgorithm} of the channel
+	 * @return Wrapped data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] wrapKey(byte[] key, String channelId, KeyWrapAlgorithm algorithm) throws AppException {
+		return switch (algorithm) {
+		case RSA_OAEP -> rsaEncrypt(key, channelId);
+		case ECDH_ES -> ecdhWrap(key, channelAgreementKey(channelId));
+		case AES_KW -> throw kekRequired();
+		};
+	}
+
+	/**
+	 * Method to unwrap a data key wrapped for the service with the given key wrap
+	 * algorithm
+	 * 
+	 * @param wrappedKey Wrapped data key
+	 * @param algorithm  {@link KeyWrapAlgorithm} named in the pay load
+	 * @return Raw data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] unwrapKey(byte[] wrappedKey, KeyWrapAlgorithm algorithm) throws AppException {
+		return unwrapKey(wrappedKey, algorithm, null);
+	}
+
+	/**
+	 * Method to unwrap a data key wrapped for the service with the given key wrap
+	 * algorithm and the private key of a key id. The key id only selects among
+	 * the {@code RSA} keys, {@code ECDH-ES} uses the key agreement key of the
+	 * curve of the ephemeral key.
+	 * 
+	 * @param wrappedKey Wrapped data key
+	 * @param algorithm  {@link KeyWrapAlgorithm} named in the pay load
+	 * @param keyId      Key id named in the pay load, or {@code null} for the
+	 *                   current private key
+	 * @return Raw data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] unwrapKey(byte[] wrappedKey, KeyWrapAlgorithm algorithm, String keyId) throws AppException {
+		return switch (algorithm) {
+		case RSA_OAEP -> rsaDecrypt(wrappedKey, keyId);
+		case ECDH_ES -> ecdhUnwrap(wrappedKey);
+		case AES_KW -> throw kekRequired();
+		};
+	}
+
+	/**
+	 * Method to get the exception raised when a key wrapped with a key encryption
+	 * key is passed to the public key wrap methods
+	 * 
+	 * @return {@link AppException} object
+	 */
+	private static AppException kekRequired() {
+		return AppException.getInstance("Key encryption key required for " + KeyWrapAlgorithm.AES_KW.getHeaderName(),
+				"Name the key encryption key of the channel in the header", Codes.ERR01, HttpStatus.BAD_REQUEST);
+	}
+
+	/**
+	 * Method to wrap a raw data key with {@code AES Key Wrap} under a key
+	 * encryption key using the algorithm mentioned in configurations with
+	 * property 'kek.algorithm'
+	 * 
+	 * @param key Raw data key
+	 * @param kek Key encryption key of the channel
+	 * @return Wrapped data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] kekWrap(byte[] key, SecretKey kek) throws AppException {
+		try {
+			Cipher cipher = CryptoPrimitives.cipher(AppProperties.strProperty("kek.algorithm"));
+			cipher.init(Cipher.WRAP_MODE, kek);
+			return cipher.wrap(new SecretKeySpec(key, AppProperties.strProperty("aes.instance")));
+		} catch (GeneralSecurityException e) {
+			throw AppException.getInstance("Data key could not be wrapped with the key encryption key",
+					e.getMessage(), Codes.ERR03, HttpStatus.FORBIDDEN);
+		}
+	}
+
+	/**
+	 * Method to unwrap a raw data key wrapped with {@code AES Key Wrap} under a key
+	 * encryption key. The integrity check of the key wrap fails for a key wrapped
+	 * under another key encryption key.
+	 * 
+	 * @param wrappedKey Wrapped data key
+	 * @param kek        Key encryption key of the channel
+	 * @return Raw data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] kekUnwrap(byte[] wrappedKey, SecretKey kek) throws AppException {
+		try {
+			Cipher cipher = CryptoPrimitives.cipher(AppProperties.strProperty("kek.algorithm"));
+			cipher.init(Cipher.UNWRAP_MODE, kek);
+			return cipher.unwrap(wrappedKey, AppProperties.strProperty("aes.instance"), Cipher.SECRET_KEY)
+					.getEncoded();
+		} catch (GeneralSecurityException e) {
+			throw AppException.getInstance("Data key could not be unwrapped with the key encryption key",
+					e.getMessage(), Codes.ERR03, HttpStatus.FORBIDDEN);
+		}
+	}
+
+	/**
+	 * Method to get the key wrap algorithm of a channel: {@code ECDH-ES} when it
+	 * registered a key agreement key, {@code RSA-OAEP} when its public key is an
+	 * {@code RSA} key
+	 * 
+	 * @param channelId Channel id
+	 * @return {@link KeyWrapAlgorithm} of the channel
+	 * @throws AppException Thrown when the channel has no key able to wrap keys
+	 */
+	public KeyWrapAlgorithm keyWrapAlgorithm(String channelId) throws AppException {
+		return KeyWrapAlgorithm.of(channelKey(channelId), channelAgreementKeyService.agreementKey(channelId));
+	}
+
+	/**
+	 * Method to get the largest data a channel can receive encrypted directly with
+	 * {@link #rsaEncrypt(byte[], String)}, that is the modulus length of its
+	 * {@code RSA} public key minus the overhead of the padding of property
+	 * 'rsa.algorithm'
+	 * 
+	 * @param channelId Channel id
+	 * @return Maximum data length in bytes, {@code 0} when the channel key is not
+	 *         an {@code RSA} key
+	 * @throws AppException Thrown when the channel id is invalid
+	 */
+	public int rsaDataLimit(String channelId) throws AppException {
+		return channelKey(channelId) instanceof RSAPublicKey rsaKey
+				? Math.max(0, (rsaKey.getModulus().bitLength() + Byte.SIZE - 1) / Byte.SIZE
+						- paddingOverhead(AppProperties.strProperty("rsa.algorithm")))
+				: 0;
+	}
+
+	/**
+	 * Method to get the bytes an {@code RSA} transformation adds to the data: two
+	 * digests and two marker bytes for {@code OAEP}, the digest being the one
+	 * named in the transformation or {@code SHA-1} by default, and eleven bytes
+	 * for {@code PKCS#1 v1.5}
+	 * 
+	 * @param transformation {@code RSA} transformation
+	 * @return Padding overhead in bytes
+	 * @throws ConfigException Thrown when the padding or its digest is not
+	 *                         supported
+	 */
+	private static int paddingOverhead(String transformation) {
+		String padding = transformation.substring(transformation.lastIndexOf('/') + 1);
+		if ("PKCS1Padding".equalsIgnoreCase(padding))
+			return PKCS1_OVERHEAD;
+
+		Matcher matcher = OAEP_DIGEST.matcher(transformation);
+		String digest = matcher.find() ? matcher.group(1) : "OAEPPadding".equalsIgnoreCase(padding) ? "SHA-1" : null;
+		if (Objects.isNull(digest))
+			throw ConfigException.getInstance("unsupported RSA padding configured: " + transformation);
+		try {
+			return 2 * CryptoPrimitives.messageDigest(digest).getDigestLength() + 2;
+		} catch (NoSuchAlgorithmException e) {
+			throw ConfigException.getInstance("unsupported OAEP digest configured: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Method to check at startup that the padding overhead of property
+	 * 'rsa.algorithm' is known, so a transformation whose overhead cannot be
+	 * derived stops the application instead of sizing the direct {@code RSA}
+	 * envelopes wrongly
+	 * 
+	 * @throws ConfigException Thrown when the padding or its digest is not
+	 *                         supported
+	 */
+	@PostConstruct
+	private void checkPadding() {
+		paddingOverhead(AppProperties.strProperty("rsa.algorithm"));
+	}
+
+	/**
+	 * Method to wrap a raw data key with {@code ECDH-ES}. An ephemeral key pair is
+	 * generated on the curve of the channel key agreement key, the agreed secret
+	 * is expanded with {@code HKDF} into a one-time key and nonce, and the data
+	 * key is encrypted with {@code AES/GCM}.
+	 * 
+	 * <pre>
+	 * ephemeral key length(2) | ephemeral public key | encrypted data key
+	 * </pre>
+	 * 
+	 * @param key          Raw data key
+	 * @param recipientKey Key agreement key of the channel
+	 * @return Wrapped data key carrying the ephemeral public key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private byte[] ecdhWrap(byte[] key, PublicKey recipientKey) throws AppException {
+		try {
+			KeyAgreementCurve curve = KeyAgreementCurve.of(recipientKey);
+			KeyPairGenerator keyPairGenerator = CryptoPrimitives.keyPairGenerator(curve.getKeyAlgorithm());
+			keyPairGenerator.initialize(curve.getParameterSpec());
+			KeyPair ephemeralKeyPair = keyPairGenerator.generateKeyPair();
+			byte[] ephemeralKey = ephemeralKeyPair.getPublic().getEncoded();
+
+			byte[] encryptedKey = ecdhCipher(Cipher.ENCRYPT_MODE, curve, ephemeralKeyPair.getPrivate(), recipientKey,
+					ephemeralKey).doFinal(key);
+			return ByteBuffer.allocate(Short.BYTES + ephemeralKey.length + encryptedKey.length)
+					.putShort((short) ephemeralKey.length).put(ephemeralKey).put(encryptedKey).array();
+		} catch (NoSuchAlgorithmException e) {
+			throw AppException.getInstance("Invalid algorithm used while wrapping the key", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw AppException.getInstance("Invalid curve used while wrapping the key", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (IllegalBlockSizeException | BadPaddingException e) {
+			throw AppException.getInstance("Error occured while wrapping the key", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		}
+	}
+
+	/**
+	 * Method to unwrap a data key wrapped with {@code ECDH-ES} using the key
+	 * agreement key of the service on the curve of the ephemeral key, never one
+	 * of its signing keys
+	 * 
+	 * @param wrappedKey Wrapped data key carrying the ephemeral public key
+	 * @return Raw data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private byte[] ecdhUnwrap(byte[] wrappedKey) throws AppException {
+		try {
+			ByteBuffer buffer = ByteBuffer.wrap(wrappedKey);
+			byte[] ephemeralKey = new byte[Short.toUnsignedInt(buffer.getShort())];
+			buffer.get(ephemeralKey);
+			byte[] encryptedKey = new byte[buffer.remaining()];
+			buffer.get(encryptedKey);
+
+			PublicKey ephemeralPublicKey = agreementPublicKey(ephemeralKey);
+			KeyAgreementCurve curve = KeyAgreementCurve.of(ephemeralPublicKey);
+			return ecdhCipher(Cipher.DECRYPT_MODE, curve, agreementKey(curve), ephemeralPublicKey, ephemeralKey)
+					.doFinal(encryptedKey);
+		} catch (BufferUnderflowException e) {
+			throw AppException.getInstance("Wrapped key is incomplete", "Pass a valid ECDH-ES wrapped key",
+					Codes.ERR01, HttpStatus.BAD_REQUEST);
+		} catch (IllegalBlockSizeException | BadPaddingException e) {
+			throw AppException.getInstance("Error occured while unwrapping the key", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		}
+	}
+
+	/**
+	 * Method to get an {@code AES/GCM} cipher keyed with the secret agreed between
+	 * the given keys. The secret is expanded with {@code HKDF} into a key and a
+	 * nonce, both used once since every wrap uses a new ephemeral key pair.
+	 * 
+	 * @param mode         {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+	 * @param curve        {@link KeyAgreementCurve} of both keys
+	 * @param privateKey   Own private key
+	 * @param publicKey    Public key of the other party
+	 * @param ephemeralKey Encoded ephemeral public key bound to the derived key
+	 * @return Initialized {@link Cipher}
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private Cipher ecdhCipher(int mode, KeyAgreementCurve curve, PrivateKey privateKey, PublicKey publicKey,
+			byte[] ephemeralKey) throws AppException {
+		byte[] sharedSecret = null;
+		byte[] keyMaterial = null;
+		try {
+			KeyAgreement keyAgreement = CryptoPrimitives.keyAgreement(curve.instance());
+			keyAgreement.init(privateKey);
+			keyAgreement.doPhase(publicKey, true);
+			sharedSecret = keyAgreement.generateSecret();
+
+			int keyLength = AppProperties.intProperty("data.key.size") / Byte.SIZE;
+			keyMaterial = hkdf(sharedSecret, ephemeralKey, keyLength + ECDH_NONCE_LENGTH);
+			Cipher cipher = CryptoPrimitives.cipher(AppProperties.strProperty("aes.algorithm"));
+			cipher.init(mode, new SecretKeySpec(keyMaterial, 0, keyLength, AppProperties.strProperty("aes.instance")),
+					new GCMParameterSpec(AppProperties.intProperty("gcm.length"), keyMaterial, keyLength,
+							ECDH_NONCE_LENGTH));
+			return cipher;
+		} catch (NoSuchAlgorithmException e) {
+			throw AppException.getInstance("Invalid algorithm used while agreeing the key", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		} catch (NoSuchPaddingException e) {
+			throw AppException.getInstance("Padding mismatch while agreeing the key", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (InvalidKeyException e) {
+			throw AppException.getInstance("The key is invalid while agreeing the key", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		} catch (InvalidAlgorithmParameterException e) {
+			throw AppException.getInstance("Invalid parameters used while agreeing the key", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
+		} finally {
+			if (Objects.nonNull(sharedSecret))
+				Arrays.fill(sharedSecret, (byte) 0);
+			if (Objects.nonNull(keyMaterial))
+				Arrays.fill(keyMaterial, (byte) 0);
+		}
+	}
+
+	/**
+	 * Method to derive key material from a shared secret with {@code HKDF}
+	 * (RFC 5869) using the {@code HMAC} mentioned in configurations with property
+	 * 'hkdf.instance' and an all-zero salt
+	 * 
+	 * @param secret Shared secret
+	 * @param info   Context bound to the derived key material
+	 * @param length Number of bytes to derive
+	 * @return Derived key material
+	 * @throws NoSuchAlgorithmException Thrown when the algorithm is invalid
+	 * @throws InvalidKeyException      Thrown when the secret is invalid
+	 */
+	private static byte[] hkdf(byte[] secret, byte[] info, int length)
+			throws NoSuchAlgorithmException, InvalidKeyException {
+		String algorithm = AppProperties.strProperty("hkdf.instance");
+		Mac mac = CryptoPrimitives.mac(algorithm);
+		mac.init(new SecretKeySpec(new byte[mac.getMacLength()], algorithm));
+		byte[] pseudoRandomKey = mac.doFinal(secret);
+
+		mac.init(new SecretKeySpec(pseudoRandomKey, algorithm));
+		byte[] keyMaterial = new byte[length];
+		byte[] block = new byte[0];
+		for (int counter = 1, offset = 0; offset < length; counter++) {
+			mac.update(block);
+			mac.update(info);
+			mac.update((byte) counter);
+			block = mac.doFinal();
+			int size = Math.min(block.length, length - offset);
+			System.arraycopy(block, 0, keyMaterial, offset, size);
+			offset += size;
+		}
+		Arrays.fill(pseudoRandomKey, (byte) 0);
+		Arrays.fill(block, (byte) 0);
+		return keyMaterial;
+	}
+
 	/**
 	 * Method to encrypt plain body using AES in GCM mode with no padding.
 	 *
@@ -153,27 +581,26 @@ public class EncryptionUtility {
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
 	public String[] aesEncrypt(String body, char[] pass, byte[] salt) throws AppException {
-		try {
-			Cipher cipher = Cipher.getInstance(AppProperties.strProperty("aes.algorithm"));
-			cipher.init(Cipher.ENCRYPT_MODE, symmetricKey(pass, salt));
-			return new String[] { CommonUtility.encodedString(cipher.doFinal(body.getBytes())),
-					CommonUtility.encodedString(cipher.getIV()) };
-		} catch (NoSuchAlgorithmException e) {
-			throw AppException.getInstance("Invalid algorithm used while encrypting the data", e.getMessage(),
-					Codes.ERR03, HttpStatus.FORBIDDEN);
-		} catch (NoSuchPaddingException e) {
-			throw AppException.getInstance("Padding mismatch while encrypting the data", e.getMessage(), Codes.ERR03,
-					HttpStatus.FORBIDDEN);
-		} catch (InvalidKeyException e) {
-			throw AppException.getInstance("The key is invalid while encrypting the data", e.getMessage(), Codes.ERR03,
-					HttpStatus.FORBIDDEN);
-		} catch (IllegalBlockSizeException e) {
-			throw AppException.getInstance("Data is too large while encrypting the data", e.getMessage(), Codes.ERR03,
-					HttpStatus.FORBIDDEN);
-		} catch (BadPaddingException e) {
-			throw AppException.getInstance("Bad padding exception occured while encrypting the data", e.getMessage(),
-					Codes.ERR03, HttpStatus.FORBIDDEN);
-		}
+		byte[][] encData = encrypt(body.getBytes(), symmetricKey(pass, salt), null,
+				cipherSuiteRegistry.suite(AesGcmCipherSuite.NAME));
+		return new String[] { CommonUtility.encodedString(encData[0]), CommonUtility.encodedString(encData[1]) };
+	}
+
+	/**
+	 * Method to encrypt plain bytes with a ready {@code SecretKey} using the given
+	 * cipher suite. A fresh nonce of the length required by the suite is drawn
+	 * from {@link RandomMaterialUtility} for every call.
+	 * 
+	 * @param body  Plain body bytes
+	 * @param key   Data key of the suite
+	 * @param aad   Additional authenticated data or {@code null}
+	 * @param suite {@link CipherSuite} encrypting the data
+	 * @return Encrypted data at index 0 and the generated IV at index 1
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[][] encrypt(byte[] body, SecretKey key, byte[] aad, CipherSuite suite) throws AppException {
+		byte[] iv = randomMaterialUtility.bytes(suite.ivLength());
+		return new byte[][] { suite.encrypt(body, key, iv, aad), iv };
 	}
 
 	/**
@@ -193,54 +620,77 @@ public class EncryptionUtility {
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
 	public String aesDecrypt(String encText, char[] pass, byte[] salt, String iv) throws AppException {
-		try {
-			Cipher cipher = Cipher.getInstance(AppProperties.strProperty("aes.algorithm"));
-			cipher.init(Cipher.DECRYPT_MODE, symmetricKey(pass, salt),
-					new GCMParameterSpec(AppProperties.intProperty("gcm.length"), CommonUtility.decode(iv)));
-			return CommonUtility.bytesToString(cipher.doFinal(CommonUtility.decode(encText)));
-		} catch (NoSuchAlgorithmException e) {
-			throw AppException.getInstance("Invalid algorithm used while decrypting the data", e.getMessage(),
-					Codes.ERR03, HttpStatus.FORBIDDEN);
-		} catch (NoSuchPaddingException e) {
-			throw AppException.getInstance("Padding mismatch while decrypting the data", e.getMessage(), Codes.ERR03,
-					HttpStatus.FORBIDDEN);
-		} catch (InvalidKeyException e) {
-			throw AppException.getInstance("The key is invalid while decrypting the data", e.getMessage(), Codes.ERR03,
-					HttpStatus.FORBIDDEN);
-		} catch (IllegalBlockSizeException e) {
-			throw AppException.getInstance("Data is too large while decrypting the data", e.getMessage(), Codes.ERR03,
-					HttpStatus.FORBIDDEN);
-		} catch (BadPaddingException e) {
-			throw AppException.getInstance("Bad padding exception occured while decrypting the data", e.getMessage(),
-					Codes.ERR03, HttpStatus.FORBIDDEN);
-		} catch (InvalidAlgorithmParameterException e) {
-			throw AppException.getInstance("The Algorithm is invalid while decrypting the data", e.getMessage(),
-					Codes.ERR03, HttpStatus.FORBIDDEN);
-		}
+		return CommonUtility.bytesToString(decrypt(CommonUtility.decode(encText), symmetricKey(pass, salt),
+				CommonUtility.decode(iv), null, cipherSuiteRegistry.suite(AesGcmCipherSuite.NAME)));
 	}
 
 	/**
-	 * Method to sign the given data using the RSA private key and the SHA-256 hash
-	 * algorithm. This method generates a digital signature that can be used to
-	 * verify the integrity and authenticity of the data.
+	 * Method to decrypt encrypted bytes with a ready {@code SecretKey} using the
+	 * given cipher suite.
+	 * 
+	 * @param encData Encrypted body bytes
+	 * @param key     Data key of the suite
+	 * @param iv      Initialization Vector (IV) shared for decrypting
+	 * @param aad     Additional authenticated data or {@code null}
+	 * @param suite   {@link CipherSuite} the data was encrypted with
+	 * @return Decrypted bytes
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] decrypt(byte[] encData, SecretKey key, byte[] iv, byte[] aad, CipherSuite suite)
+			throws AppException {
+		return suite.decrypt(encData, key, iv, aad);
+	}
+
+	/**
+	 * Method to sign the given data using the service private key of the given
+	 * signature algorithm and the SHA-256 hash algorithm. This method generates a
+	 * digital signature that can be used to verify the integrity and authenticity
+	 * of the data.
 	 *
 	 * <p>
 	 * Note: The private key used for signing must correspond to the public key that
 	 * will be used for verification. The signature algorithm is a combination of
-	 * the SHA-256 hash function and RSA encryption.
+	 * the SHA-256 hash function and RSA, ECDSA or EdDSA signing.
 	 * </p>
 	 *
-	 * @param text Plain data
+	 * @param text      Plain data
+	 * @param algorithm {@link SignatureAlgorithm} of the channel
 	 * @return Signed data
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
-	public String sign(String text) throws AppException {
+	public String sign(String text, SignatureAlgorithm algorithm) throws AppException {
+		return CommonUtility.encodedString(sign(text.getBytes(StandardCharsets.UTF_8), algorithm));
+	}
+
+	/**
+	 * Method to sign the given plain bytes using the service private key of the
+	 * given signature algorithm and the SHA-256 hash algorithm.
+	 *
+	 * @param data      Plain data bytes
+	 * @param algorithm {@link SignatureAlgorithm} of the channel
+	 * @return Signature bytes
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] sign(byte[] data, SignatureAlgorithm algorithm) throws AppException {
+		return signDigest(digest(data), algorithm);
+	}
+
+	/**
+	 * Method to sign an already computed message digest using the service private
+	 * key of the given signature algorithm. Used when the digest is built
+	 * incrementally over a stream of data.
+	 *
+	 * @param digest    Message digest of the plain data
+	 * @param algorithm {@link SignatureAlgorithm} of the channel
+	 * @return Signature bytes
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] signDigest(byte[] digest, SignatureAlgorithm algorithm) throws AppException {
 		try {
-			Signature signature = Signature.getInstance(AppProperties.strProperty("signature.instance"));
-			signature.initSign(privateKey());
-			signature.update(MessageDigest.getInstance(AppProperties.strProperty("message.digest.instance"))
-					.digest(text.getBytes(StandardCharsets.UTF_8)));
-			return CommonUtility.encodedString(signature.sign());
+			Signature signature = CryptoPrimitives.signature(algorithm.instance());
+			signature.initSign(signingKey(algorithm));
+			signature.update(digest);
+			return signature.sign();
 		} catch (NoSuchAlgorithmException e) {
 			throw AppException.getInstance("Invalid algorithm used while signing the data", e.getMessage(), Codes.ERR03,
 					HttpStatus.FORBIDDEN);
@@ -254,28 +704,54 @@ public class EncryptionUtility {
 	}
 
 	/**
-	 * Method to verify the given signature using the RSA private key and the
-	 * SHA-256 hash algorithm. This method verifies the digital signature that has
-	 * been generated verifying the integrity and authenticity of the data.
+	 * Method to verify the given signature using the channel public key, with the
+	 * signature algorithm following the type of that key. This method verifies the
+	 * digital signature that has been generated verifying the integrity and
+	 * authenticity of the data.
 	 *
-	 * <p>
-	 * Note: The public key used for verification must correspond to the private key
-	 * that was used to generate the signature. The signature algorithm is a
-	 * combination of the SHA-256 hash function and RSA encryption.
-	 * </p>
+	 * @param sign      Signed data
+	 * @param text      Plain data
+	 * @param channelId Channel id whose public key is used
+	 * @return Boolean value determining verification success
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public boolean verify(String sign, String text, String channelId) throws AppException {
+		return verify(CommonUtility.decode(sign), text.getBytes(StandardCharsets.UTF_8), channelId);
+	}
+
+	/**
+	 * Method to verify the given signature bytes over the plain bytes using the
+	 * channel public key, with the signature algorithm following the type of that
+	 * key.
 	 *
-	 * @param sign Signed data
-	 * @param text Plain data
+	 * @param sign      Signature bytes
+	 * @param data      Plain data bytes
+	 * @param channelId Channel id whose public key is used
 	 * @return Boolean value determining verification success
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
-	public boolean verify(String sign, String text) throws AppException {
+	public boolean verify(byte[] sign, byte[] data, String channelId) throws AppException {
+		return verifyDigest(sign, digest(data), channelId);
+	}
+
+	/**
+	 * Method to verify the given signature bytes over an already computed message
+	 * digest using the channel public key. Used when the digest is built
+	 * incrementally over a stream of data.
+	 *
+	 * @param sign      Signature bytes
+	 * @param digest    Message digest of the plain data
+	 * @param channelId Channel id whose public key is used
+	 * @return Boolean value determining verification success
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public boolean verifyDigest(byte[] sign, byte[] digest, String channelId) throws AppException {
 		try {
-			Signature signature = Signature.getInstance(AppProperties.strProperty("signature.instance"));
-			signature.initVerify(publicKey(encodedPublic()));
-			signature.update(MessageDigest.getInstance(AppProperties.strProperty("message.digest.instance"))
-					.digest(text.getBytes(StandardCharsets.UTF_8)));
-			return signature.verify(CommonUtility.decode(sign));
+			PublicKey publicKey = channelKey(channelId);
+			Signature signature = CryptoPrimitives.signature(SignatureAlgorithm.of(publicKey).instance());
+			signature.initVerify(publicKey);
+			signature.update(digest);
+			return signature.verify(sign);
 		} catch (NoSuchAlgorithmException e) {
 			throw AppException.getInstance("Invalid algorithm used while verifying the signature", e.getMessage(),
 					Codes.ERR03, HttpStatus.FORBIDDEN);
@@ -289,29 +765,165 @@ public class EncryptionUtility {
 	}
 
 	/**
-	 * Method to get {@code PrivateKey} object using RSA Key factory instance
+	 * Method to get a pooled {@link MessageDigest} of the algorithm mentioned in
+	 * configurations with property 'message.digest.instance'
 	 * 
-	 * @return Private key
+	 * @return Reset {@link MessageDigest} instance
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
-	private PrivateKey privateKey() throws AppException {
+	public static MessageDigest messageDigest() throws AppException {
 		try {
-			return (PrivateKey) applicationInit.keyStore().getKey(AppProperties.strProperty("keystore.alias"),
-					AppProperties.strProperty("keystore.pass").toCharArray());
+			return CryptoPrimitives.messageDigest(AppProperties.strProperty("message.digest.instance"));
 		} catch (NoSuchAlgorithmException e) {
-			throw AppException.getInstance("Invalid algorithm used while generating private key", e.getMessage(),
-					Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR);
-		} catch (UnrecoverableKeyException e) {
-			throw AppException.getInstance("Key not recoverable whhile generating private key", e.getMessage(),
-					Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR);
-		} catch (KeyStoreException e) {
-			throw AppException.getInstance("The Keystore is invalid while generating private key", e.getMessage(),
-					Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR);
+			throw AppException.getInstance("Invalid algorithm used while generating message digest", e.getMessage(),
+					Codes.ERR03, HttpStatus.FORBIDDEN);
 		}
 	}
 
 	/**
-	 * Method to get {@code PublicKey} object using RSA Key factory instance
+	 * Method to compute the message digest of the plain data
+	 * 
+	 * @param data Plain data bytes
+	 * @return Message digest
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private static byte[] digest(byte[] data) throws AppException {
+		return messageDigest().digest(data);
+	}
+
+	/**
+	 * Method to generate a random raw {@code AES} data key of the size mentioned
+	 * in configurations with property 'data.key.size' drawn from
+	 * {@link RandomMaterialUtility}. The key is wrapped for the channel and needs
+	 * no key derivation.
+	 * 
+	 * @return Random AES key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public SecretKey dataKey() throws AppException {
+		return dataKey(randomMaterialUtility.key());
+	}
+
+	/**
+	 * Method to generate a random data key of the size required by the given
+	 * cipher suite drawn from {@link RandomMaterialUtility}
+	 * 
+	 * @param suite {@link CipherSuite} using the key
+	 * @return Random data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public SecretKey dataKey(CipherSuite suite) throws AppException {
+		return suite.key(randomMaterialUtility.bytes(suite.keySize() / Byte.SIZE));
+	}
+
+	/**
+	 * Method to get {@code SecretKey} object from raw unwrapped data key bytes
+	 * 
+	 * @param key Raw AES key bytes
+	 * @return Secret key
+	 */
+	public static SecretKey dataKey(byte[] key) {
+		return new SecretKeySpec(key, AppProperties.strProperty("aes.instance"));
+	}
+
+	/**
+	 * Method to get {@code PrivateKey} object extracted by {@link ApplicationInit}
+	 * when the key store was loaded. The key of the key id is looked up directly
+	 * in the key ring, the current key is used when no key id is given.
+	 * 
+	 * @param keyId Key id named in the pay load or {@code null}
+	 * @return Private key
+	 * @throws AppException Thrown when the key is not loaded
+	 */
+	private PrivateKey privateKey(String keyId) throws AppException {
+		if (Objects.nonNull(keyId))
+			return applicationInit.privateKey(keyId)
+					.orElseThrow(() -> AppException.getInstance("Unknown key id: " + keyId,
+							"Encrypt with a certificate of the service", Codes.ERR04, HttpStatus.BAD_REQUEST));
+
+		PrivateKey privateKey = applicationInit.privateKey();
+		if (Objects.isNull(privateKey))
+			throw AppException.getInstance("Private key is not loaded", "Key store is not initialized", Codes.ERR04,
+					HttpStatus.INTERNAL_SERVER_ERROR);
+		return privateKey;
+	}
+
+	/**
+	 * Method to get the signing key of the service for a signature algorithm
+	 * extracted by {@link ApplicationInit} when the key store was loaded
+	 * 
+	 * @param algorithm {@link SignatureAlgorithm} of the channel
+	 * @return Private key
+	 * @throws AppException Thrown when no key is configured for the algorithm
+	 */
+	private PrivateKey signingKey(SignatureAlgorithm algorithm) throws AppException {
+		return applicationInit.signingKey(algorithm)
+				.orElseThrow(() -> AppException.getInstance("Signing key is not loaded for " + algorithm,
+						"Configure the key store alias with property '" + algorithm.getAliasProperty() + "'",
+						Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR));
+	}
+
+	/**
+	 * Method to get the key agreement key of the service for a curve extracted by
+	 * {@link ApplicationInit} when the key store was loaded
+	 * 
+	 * @param curve {@link KeyAgreementCurve} of the ephemeral key
+	 * @return Private key
+	 * @throws AppException Thrown when no key is configured for the curve
+	 */
+	private PrivateKey agreementKey(KeyAgreementCurve curve) throws AppException {
+		return applicationInit.agreementKey(curve)
+				.orElseThrow(() -> AppException.getInstance("Key agreement key is not loaded for " + curve,
+						"Configure the key store alias with property '" + curve.getAliasProperty() + "'",
+						Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR));
+	}
+
+	/**
+	 * Method to get the key agreement key registered by a channel
+	 * 
+	 * @param channelId Channel id
+	 * @return Key agreement public key of the channel
+	 * @throws AppException Thrown when the channel registered no key agreement key
+	 */
+	private PublicKey channelAgreementKey(String channelId) throws AppException {
+		return channelAgreementKeyService.agreementKey(channelId)
+				.orElseThrow(() -> AppException.getInstance("No key agreement key registered for channel " + channelId,
+						"Register a key agreement key (EC P-256 or X25519) to receive encrypted data", Codes.ERR04,
+						HttpStatus.BAD_REQUEST));
+	}
+
+	/**
+	 * Method to get a key agreement {@code PublicKey} object using the Key factory
+	 * instances of the supported curves, tried in the order they are declared in
+	 * {@link KeyAgreementCurve}
+	 * 
+	 * @param publicKey Encoded {@code X.509} public key
+	 * @return Public key on one of the supported curves
+	 * @throws AppException Thrown when the key is invalid or on another curve
+	 */
+	public static PublicKey agreementPublicKey(byte[] publicKey) throws AppException {
+		X509EncodedKeySpec keySpec = new X509EncodedKeySpec(publicKey);
+		String message = null;
+		for (KeyAgreementCurve curve : KeyAgreementCurve.values()) {
+			try {
+				PublicKey key = CryptoPrimitives.keyFactory(curve.getKeyAlgorithm()).generatePublic(keySpec);
+				KeyAgreementCurve.of(key);
+				return key;
+			} catch (InvalidKeySpecException e) {
+				message = e.getMessage();
+			} catch (NoSuchAlgorithmException e) {
+				throw AppException.getInstance("Invalid algorithm used while generating key agreement key",
+						e.getMessage(), Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR);
+			}
+		}
+		throw AppException.getInstance("Key spec is invalid while generating key agreement key", message,
+				Codes.ERR04, HttpStatus.BAD_REQUEST);
+	}
+
+	/**
+	 * Method to get {@code PublicKey} object using the Key factory instances of
+	 * the supported signature algorithms, tried in the order they are declared in
+	 * {@link SignatureAlgorithm}
 	 * 
 	 * @param publicKey Encoded Public key string
 	 * 
@@ -319,29 +931,59 @@ public class EncryptionUtility {
 	 * @throws AppException Thrown when a custom exception occurs
 	 */
 	public static PublicKey publicKey(String publicKey) throws AppException {
-		try {
-			return KeyFactory.getInstance(AppProperties.strProperty("rsa.instance"))
-					.generatePublic(new X509EncodedKeySpec(CommonUtility.decode(publicKey)));
-		} catch (InvalidKeySpecException e) {
-			throw AppException.getInstance("Key spec is invalid while generating public key", e.getMessage(),
-					Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR);
-		} catch (NoSuchAlgorithmException e) {
-			throw AppException.getInstance("Invalid algorithm used while generating public key", e.getMessage(),
-					Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR);
+		X509EncodedKeySpec keySpec = new X509EncodedKeySpec(CommonUtility.decode(publicKey));
+		String message = null;
+		for (SignatureAlgorithm algorithm : SignatureAlgorithm.values()) {
+			try {
+				return CryptoPrimitives.keyFactory(algorithm.getKeyAlgorithm()).generatePublic(keySpec);
+			} catch (InvalidKeySpecException e) {
+				message = e.getMessage();
+			} catch (NoSuchAlgorithmException e) {
+				throw AppException.getInstance("Invalid algorithm used while generating public key", e.getMessage(),
+						Codes.ERR04, HttpStatus.INTERNAL_SERVER_ERROR);
+			}
 		}
+		throw AppException.getInstance("Key spec is invalid while generating public key", message, Codes.ERR04,
+				HttpStatus.INTERNAL_SERVER_ERROR);
+	}
+
+	/**
+	 * Method to get the signature algorithm of a channel, following the type of
+	 * its public key
+	 * 
+	 * @param channelId Channel id
+	 * @return {@link SignatureAlgorithm} of the channel
+	 * @throws AppException Thrown when the channel key is invalid or not supported
+	 */
+	public SignatureAlgorithm signatureAlgorithm(String channelId) throws AppException {
+		return SignatureAlgorithm.of(channelKey(channelId));
+	}
+
+	/**
+	 * Method to get the channel id passed at the start of the reference number
+	 * 
+	 * @param refNo Reference number
+	 * @return Channel id
+	 * @throws AppException Thrown when the reference number is not passed
+	 */
+	public static String channelId(String refNo) throws AppException {
+		if (Objects.isNull(refNo) || refNo.length() < 3)
+			throw AppException.getInstance("Channel id is either invalid or not passed!!",
+					"Pass a registered channel Id at the start of the Reference number", Codes.ERR04,
+					HttpStatus.BAD_REQUEST);
+		return refNo.substring(0, 3);
 	}
 
 	/**
-	 * Method to get Encoded public key value from {@link ApplicationInit}
+	 * Method to get the decoded public key of the channel from
+	 * {@link ApplicationInit}
 	 * 
-	 * @return Encoded public key value stored in {@link ApplicationInit} object
+	 * @param channelId Channel id
+	 * @return Public key cached in {@link ApplicationInit} object
 	 * @throws AppException Thrown when the provided channel key is invalid
 	 */
-	private String encodedPublic() throws AppException {
-		return applicationInit.channels().stream()
-				.filter(channel -> channel.getChannelId()
-						.equals(request.getAttribute("ref-no").toString().substring(0, 3)))
-				.map(ChannelDetails::getPublicKey).findFirst()
+	private PublicKey channelKey(String channelId) throws AppException {
+		return applicationInit.publicKey(channelId)
 				.orElseThrow(() -> AppException.getInstance("Channel id is either invalid or not passed!!",
 						"Pass a registered channel Id at the start of the Reference number", Codes.ERR04,
 						HttpStatus.BAD_REQUEST));
@@ -359,7 +1001,7 @@ public class EncryptionUtility {
 	private SecretKey symmetricKey(char[] pass, byte[] salt) throws AppException {
 		try {
 			return new SecretKeySpec(
-					SecretKeyFactory.getInstance(AppProperties.strProperty("secret.instance"))
+					CryptoPrimitives.secretKeyFactory(AppProperties.strProperty("secret.instance"))
 							.generateSecret(new PBEKeySpec(pass, salt, AppProperties.intProperty("iteration.count"),
 									AppProperties.intProperty("key.size")))
 							.getEncoded(),
@@ -0,0 +1,148 @@
+package com.encryption.utility;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.encryption.crypto.CryptoPrimitives;
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+import com.utilities.property.AppProperties;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.AllArgsConstructor;
+
+/**
+ * This class provides the random material used by the encryption operations:
+ * raw data keys, {@code IV}s and the random password and salt of the
+ * {@code v1} format.
+ *
+ * <p>
+ * Every thread draws from its own {@link SecureRandom} of the algorithm
+ * mentioned in configurations with property 'secure.instance', pooled by
+ * {@link CryptoPrimitives}, so the generator is instantiated and seeded once
+ * per thread instead of once per call and no thread waits on another.
+ * </p>
+ *
+ * <p>
+ * The number of random bytes and the time spent generating them are published
+ * as {@code crypto.random.bytes} and {@code crypto.random.time}, tagged with the
+ * algorithm in use.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html">
+ *      Component </a>
+ * @author Kabir Akware
+ */
+@Component
+@AllArgsConstructor
+public class RandomMaterialUtility {
+
+	/**
+	 * Characters of the random strings
+	 */
+	private static final char[] ALPHANUMERIC = alphanumeric();
+
+	/**
+	 * {@link MeterRegistry} publishing the random material metrics
+	 */
+	private MeterRegistry meterRegistry;
+
+	/**
+	 * Method to generate random bytes
+	 *
+	 * @param length Number of bytes
+	 * @return Random bytes
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] bytes(int length) throws AppException {
+		String algorithm = AppProperties.strProperty("secure.instance");
+		long start = System.nanoTime();
+		byte[] bytes = new byte[length];
+		secureRandom(algorithm).nextBytes(bytes);
+		record(algorithm, length, start);
+		return bytes;
+	}
+
+	/**
+	 * Method to generate a raw {@code AES} data key of the size mentioned in
+	 * configurations with property 'data.key.size'
+	 *
+	 * @return Raw data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] key() throws AppException {
+		return bytes(AppProperties.intProperty("data.key.size") / Byte.SIZE);
+	}
+
+	/**
+	 * Method to generate random alphanumeric string used as password or salt of
+	 * the {@code v1} format
+	 *
+	 * @param length length of the required string
+	 * @return Random alphanumeric string of input length
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public String randomString(int length) throws AppException {
+		String algorithm = AppProperties.strProperty("secure.instance");
+		long start = System.nanoTime();
+		SecureRandom secureRandom = secureRandom(algorithm);
+		char[] chars = new char[length];
+		for (int i = 0; i < length; i++)
+			chars[i] = ALPHANUMERIC[secureRandom.nextInt(ALPHANUMERIC.length)];
+		record(algorithm, length, start);
+		return new String(chars);
+	}
+
+	/**
+	 * Method to get the pooled {@link SecureRandom} of the current thread
+	 *
+	 * @param algorithm Random number generator algorithm
+	 * @return {@link SecureRandom} object
+	 * @throws AppException Thrown when the algorithm is invalid
+	 */
+	private static SecureRandom secureRandom(String algorithm) throws AppException {
+		try {
+			return CryptoPrimitives.secureRandom(algorithm);
+		} catch (NoSuchAlgorithmException e) {
+			throw AppException.getInstance("Error in initiating SecureRandom to generate random material",
+					e.getMessage(), Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * Method to record the amount of random material generated and the time spent
+	 *
+	 * @param algorithm Random number generator algorithm
+	 * @param length    Number of bytes or characters generated
+	 * @param start     Start time in nanoseconds
+	 */
+	private void record(String algorithm, int length, long start) {
+		Timer.builder("crypto.random.time").description("Time spent generating random material")
+				.tag("algorithm", algorithm).register(meterRegistry)
+				.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		Counter.builder("crypto.random.bytes").description("Random material generated").baseUnit("bytes")
+				.tag("algorithm", algorithm).register(meterRegistry).increment(length);
+	}
+
+	/**
+	 * Method to build the characters of the random strings: digits, upper case
+	 * letters from 'C' and lower case letters from 'c'
+	 *
+	 * @return Characters of the random strings
+	 */
+	private static char[] alphanumeric() {
+		StringBuilder chars = new StringBuilder();
+		for (char c = '0'; c <= 'z'; c++)
+			if ((c < ':' || c > 'B') && (c < '[' || c > 'b'))
+				chars.append(c);
+		return chars.toString().toCharArray();
+	}
+}
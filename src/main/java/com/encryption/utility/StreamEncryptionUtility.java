@@ -0,0 +1,267 @@
+package com.encryption.utility;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.encryption.crypto.CryptoPrimitives;
+import com.encryption.exception.AppException;
+import com.model.enums.Codes;
+import com.utilities.property.AppProperties;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * This class provides the logic for encryption and decryption of large pay
+ * loads over {@link InputStream} and {@link OutputStream} keeping the memory
+ * usage flat whatever the size of the pay load.
+ *
+ * <p>
+ * The data is split in segments of the size mentioned in configurations with
+ * property 'stream.segment.size' and every segment is encrypted using
+ * {@code AES} in {@code GCM} mode with its own authentication tag. The
+ * {@code AES} data key is wrapped and the plain data is signed with
+ * {@link EncryptionUtility}, exactly like the {@code v2} envelope. The
+ * signature and key wrap algorithms follow the type of the channel public key
+ * on both sides.
+ * </p>
+ *
+ * <p>
+ * The nonce of every segment is built from a random prefix, the segment
+ * counter and a flag marking the last segment, so segments cannot be
+ * re-ordered, dropped or truncated without failing the authentication. The
+ * stream is laid out as:
+ * </p>
+ *
+ * <pre>
+ * version(1) | key length(2) | wrapped key | nonce prefix(7)
+ * { last(1) | segment length(4) | encrypted segment } ...
+ * signature length(2) | signature
+ * </pre>
+ *
+ * <p>
+ * Note: Every decrypted segment is authenticated before it is written, but the
+ * signature over the whole data can only be verified once the stream ends. A
+ * signature failure then aborts the response that has already started.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.spring.io/spring-framework/docs/current/javadoc-api/org/springframework/stereotype/Component.html">
+ *      Component </a>
+ * @author Kabir Akware
+ */
+@Component
+@AllArgsConstructor
+public class StreamEncryptionUtility {
+
+	/**
+	 * Version of the stream format
+	 */
+	private static final int VERSION = 1;
+
+	/**
+	 * Length of the random nonce prefix
+	 */
+	private static final int NONCE_PREFIX_LENGTH = 7;
+
+	/**
+	 * Length of the segment nonce
+	 */
+	private static final int NONCE_LENGTH = 12;
+
+	/**
+	 * {@link EncryptionUtility} object parameter
+	 */
+	private EncryptionUtility encryptionUtility;
+
+	/**
+	 * {@link RandomMaterialUtility} object parameter
+	 */
+	private RandomMaterialUtility randomMaterialUtility;
+
+	/**
+	 * Method to encrypt the plain data read from the input stream and write the
+	 * encrypted segments to the output stream
+	 *
+	 * @param input     {@link InputStream} of plain data
+	 * @param output    {@link OutputStream} for the encrypted data
+	 * @param channelId Channel id whose public key wraps the data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public void encrypt(InputStream input, OutputStream output, String channelId) throws AppException {
+		try {
+			DataOutputStream out = new DataOutputStream(new BufferedOutputStream(output));
+			SecretKey dataKey = encryptionUtility.dataKey();
+			byte[] wrappedKey = encryptionUtility.wrapKey(dataKey.getEncoded(), channelId,
+					encryptionUtility.keyWrapAlgorithm(channelId));
+			byte[] noncePrefix = randomMaterialUtility.bytes(NONCE_PREFIX_LENGTH);
+
+			out.writeByte(VERSION);
+			out.writeShort(wrappedKey.length);
+			out.write(wrappedKey);
+			out.write(noncePrefix);
+
+			MessageDigest digest = EncryptionUtility.messageDigest();
+			int segmentSize = AppProperties.intProperty("stream.segment.size");
+			byte[] current = new byte[segmentSize];
+			byte[] next = new byte[segmentSize];
+			int currentLength = input.readNBytes(current, 0, segmentSize);
+			int counter = 0;
+			boolean last = false;
+
+			while (!last) {
+				int nextLength = currentLength < segmentSize ? 0 : input.readNBytes(next, 0, segmentSize);
+				last = nextLength == 0;
+
+				digest.update(current, 0, currentLength);
+				byte[] segment = segment(Cipher.ENCRYPT_MODE, dataKey, nonce(noncePrefix, counter++, last), current,
+						currentLength);
+				out.writeBoolean(last);
+				out.writeInt(segment.length);
+				out.write(segment);
+
+				byte[] swap = current;
+				current = next;
+				next = swap;
+				currentLength = nextLength;
+			}
+
+			byte[] sign = encryptionUtility.signDigest(digest.digest(),
+					encryptionUtility.signatureAlgorithm(channelId));
+			out.writeShort(sign.length);
+			out.write(sign);
+			out.flush();
+		} catch (IOException e) {
+			throw AppException.getInstance("Error occured while streaming the encrypted data", e.getMessage(),
+					Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * Method to decrypt the encrypted segments read from the input stream and
+	 * write the plain data to the output stream
+	 *
+	 * @param input     {@link InputStream} of encrypted data
+	 * @param output    {@link OutputStream} for the plain data
+	 * @param channelId Channel id whose public key verifies the signature
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public void decrypt(InputStream input, OutputStream output, String channelId) throws AppException {
+		try {
+			DataInputStream in = new DataInputStream(new BufferedInputStream(input));
+			int version = in.readUnsignedByte();
+			if (version != VERSION)
+				throw AppException.getInstance("Unsupported stream version: " + version,
+						"Pass a supported stream version", Codes.ERR01, HttpStatus.BAD_REQUEST);
+
+			SecretKey dataKey = EncryptionUtility.dataKey(encryptionUtility
+					.unwrapKey(readBytes(in, in.readUnsignedShort()), encryptionUtility.keyWrapAlgorithm(channelId)));
+			byte[] noncePrefix = new byte[NONCE_PREFIX_LENGTH];
+			in.readFully(noncePrefix);
+
+			MessageDigest digest = EncryptionUtility.messageDigest();
+			int maxSegmentLength = AppProperties.intProperty("stream.segment.size")
+					+ AppProperties.intProperty("gcm.length") / Byte.SIZE;
+			byte[] segment = new byte[maxSegmentLength];
+			int counter = 0;
+			boolean last = false;
+
+			while (!last) {
+				last = in.readBoolean();
+				int length = in.readInt();
+				if (length < 0 || length > maxSegmentLength)
+					throw AppException.getInstance("Invalid segment length: " + length,
+							"Segment exceeds the configured stream segment size", Codes.ERR01,
+							HttpStatus.BAD_REQUEST);
+
+				in.readFully(segment, 0, length);
+				byte[] plain = segment(Cipher.DECRYPT_MODE, dataKey, nonce(noncePrefix, counter++, last), segment,
+						length);
+				digest.update(plain);
+				output.write(plain);
+			}
+
+			byte[] sign = readBytes(in, in.readUnsignedShort());
+			if (in.read() != -1)
+				throw AppException.getInstance("Unexpected data after signature", "Pass a valid encrypted stream",
+						Codes.ERR01, HttpStatus.BAD_REQUEST);
+
+			if (!encryptionUtility.verifyDigest(sign, digest.digest(), channelId))
+				throw AppException.getInstance("Verification Failed!", "Digital Signature not verified.",
+						Codes.ERR02, HttpStatus.UNAUTHORIZED);
+			output.flush();
+		} catch (EOFException e) {
+			throw AppException.getInstance("Encrypted stream ended unexpectedly", "Pass a complete encrypted stream",
+					Codes.ERR01, HttpStatus.BAD_REQUEST);
+		} catch (IOException e) {
+			throw AppException.getInstance("Error occured while streaming the decrypted data", e.getMessage(),
+					Codes.ERR01, HttpStatus.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	/**
+	 * Method to encrypt or decrypt a single segment using AES in GCM mode
+	 *
+	 * @param mode   {@link Cipher#ENCRYPT_MODE} or {@link Cipher#DECRYPT_MODE}
+	 * @param key    AES data key
+	 * @param nonce  Segment nonce
+	 * @param data   Segment buffer
+	 * @param length Number of bytes of the buffer to process
+	 * @return Processed segment
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private byte[] segment(int mode, SecretKey key, byte[] nonce, byte[] data, int length) throws AppException {
+		try {
+			Cipher cipher = CryptoPrimitives.cipher(AppProperties.strProperty("aes.algorithm"));
+			cipher.init(mode, key, new GCMParameterSpec(AppProperties.intProperty("gcm.length"), nonce));
+			return cipher.doFinal(data, 0, length);
+		} catch (GeneralSecurityException e) {
+			throw AppException.getInstance("Segment could not be processed", e.getMessage(), Codes.ERR03,
+					HttpStatus.FORBIDDEN);
+		}
+	}
+
+	/**
+	 * Method to read exactly the given number of bytes from the stream
+	 *
+	 * @param in     {@link DataInputStream} object
+	 * @param length Number of bytes to read
+	 * @return Bytes read
+	 * @throws IOException Thrown when the stream ends before all the bytes are
+	 *                     read
+	 */
+	private static byte[] readBytes(DataInputStream in, int length) throws IOException {
+		byte[] bytes = new byte[length];
+		in.readFully(bytes);
+		return bytes;
+	}
+
+	/**
+	 * Method to build the nonce of a segment from the random prefix, the segment
+	 * counter and the last segment flag
+	 *
+	 * @param prefix  Random nonce prefix
+	 * @param counter Segment counter
+	 * @param last    Flag marking the last segment
+	 * @return Segment nonce
+	 */
+	private static byte[] nonce(byte[] prefix, int counter, boolean last) {
+		return ByteBuffer.allocate(NONCE_LENGTH).put(prefix).putInt(counter).put((byte) (last ? 1 : 0)).array();
+	}
+}
@@ -0,0 +1,202 @@
+package com.encryption.utility;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.encryption.crypto.KeyWrapAlgorithm;
+import com.encryption.event.KeyStoreReloadEvent;
+import com.encryption.exception.AppException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.utilities.log.Log;
+import com.utilities.property.AppProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * This class keeps the data keys recovered while decrypting, so an envelope
+ * carrying a wrapped key already seen, such as a key reused by the sender for
+ * several messages, skips the private key operation of the unwrap.
+ *
+ * <p>
+ * Entries are looked up by the digest, computed with the algorithm mentioned
+ * in configurations with property 'message.digest.instance', of the wrapped
+ * key together with the key wrap algorithm and key id that unwrap it. At most
+ * property 'unwrapped.key.cache.max.size' keys are kept, each for at most
+ * property 'unwrapped.key.cache.expire.seconds' seconds after it is unwrapped.
+ * The cache is skipped when property 'unwrapped.key.cache.enabled' is not set,
+ * which is the default: it only pays off when the senders reuse their data
+ * keys. Every key is dropped as soon as the key store is reloaded, so a key
+ * unwrapped with a private key that was removed is not served any longer.
+ * </p>
+ *
+ * <p>
+ * The keys are held in direct buffers outside the heap, so they are not copied
+ * around by the garbage collector, and are overwritten with zeros as soon as
+ * they leave the cache. A key is only copied to the heap for the operation
+ * using it.
+ * </p>
+ *
+ * <p>
+ * Hits, misses and evictions are published under the {@code crypto.unwrapped.keys}
+ * cache name.
+ * </p>
+ *
+ *
+ * @see <a href =
+ *      "https://docs.micrometer.io/micrometer/reference/reference/cache.html">
+ *      Cache metrics</a>
+ * @author Kabir Akware
+ */
+@Component
+public class UnwrappedKeyCache {
+
+	/**
+	 * Separator of the digested fields, never part of a key wrap algorithm or
+	 * key id
+	 */
+	private static final byte SEPARATOR = '.';
+
+	/**
+	 * Custom constructor to load the dependencies, build the cache and bind its
+	 * metrics
+	 *
+	 * @param encryptionUtility {@link EncryptionUtility} object
+	 * @param meterRegistry     {@link MeterRegistry} object
+	 */
+	public UnwrappedKeyCache(EncryptionUtility encryptionUtility, MeterRegistry meterRegistry) {
+		this.encryptionUtility = encryptionUtility;
+		this.cache = Caffeine.newBuilder().maximumSize(AppProperties.intProperty("unwrapped.key.cache.max.size"))
+				.expireAfterWrite(Duration.ofSeconds(AppProperties.intProperty("unwrapped.key.cache.expire.seconds")))
+				.removalListener((String digest, CachedKey key, RemovalCause cause) -> {
+					if (Objects.nonNull(key))
+						key.destroy();
+				}).recordStats().build();
+		CaffeineCacheMetrics.monitor(meterRegistry, cache, "crypto.unwrapped.keys");
+	}
+
+	/**
+	 * {@link EncryptionUtility} object parameter
+	 */
+	private EncryptionUtility encryptionUtility;
+
+	/**
+	 * Recovered keys mapped to the digest of their wrapped form
+	 */
+	private final Cache<String, CachedKey> cache;
+
+	/**
+	 * Method to get the raw data key of a wrapped key, unwrapping it with
+	 * {@link EncryptionUtility} only when it is not cached
+	 *
+	 * @param wrappedKey       Wrapped data key
+	 * @param keyWrapAlgorithm {@link KeyWrapAlgorithm} named in the pay load
+	 * @param keyId            Key id named in the pay load or {@code null}
+	 * @return Raw data key
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	public byte[] unwrapKey(byte[] wrappedKey, KeyWrapAlgorithm keyWrapAlgorithm, String keyId)
+			throws AppException {
+		if (!Boolean.parseBoolean(AppProperties.strProperty("unwrapped.key.cache.enabled")))
+			return encryptionUtility.unwrapKey(wrappedKey, keyWrapAlgorithm, keyId);
+
+		String digest = digest(wrappedKey, keyWrapAlgorithm, keyId);
+		CachedKey cached = cache.getIfPresent(digest);
+		byte[] key = Objects.isNull(cached) ? null : cached.copy();
+		if (Objects.nonNull(key))
+			return key;
+
+		key = encryptionUtility.unwrapKey(wrappedKey, keyWrapAlgorithm, keyId);
+		cache.put(digest, new CachedKey(key));
+		return key;
+	}
+
+	/**
+	 * Method to drop every recovered key once the key store is reloaded, since
+	 * they may have been unwrapped with a private key that is no longer in it
+	 *
+	 * @param event {@link KeyStoreReloadEvent} of the reloaded key store
+	 */
+	@EventListener
+	public void keyStoreReloaded(KeyStoreReloadEvent event) {
+		long size = cache.estimatedSize();
+		cache.invalidateAll();
+		Log.info(this.getClass().getSimpleName(), "keyStoreReloaded",
+				"%s recovered data key(s) dropped, key store reloaded with key id(s) %s", size, event.getKeyIds());
+	}
+
+	/**
+	 * Method to compute the cache key of a wrapped key
+	 *
+	 * @param wrappedKey       Wrapped data key
+	 * @param keyWrapAlgorithm {@link KeyWrapAlgorithm} named in the pay load
+	 * @param keyId            Key id named in the pay load or {@code null}
+	 * @return {@code Base64} encoded digest
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	private static String digest(byte[] wrappedKey, KeyWrapAlgorithm keyWrapAlgorithm, String keyId)
+			throws AppException {
+		MessageDigest digest = EncryptionUtility.messageDigest();
+		digest.update(keyWrapAlgorithm.getHeaderName().getBytes(StandardCharsets.UTF_8));
+		digest.update(SEPARATOR);
+		if (Objects.nonNull(keyId))
+			digest.update(keyId.getBytes(StandardCharsets.UTF_8));
+		digest.update(SEPARATOR);
+		return Base64.getEncoder().encodeToString(digest.digest(wrappedKey));
+	}
+
+	/**
+	 * Recovered data key held in a direct buffer until it leaves the cache
+	 */
+	private static final class CachedKey {
+
+		/**
+		 * Direct buffer holding the key
+		 */
+		private final ByteBuffer buffer;
+
+		/**
+		 * Flag marking the key as overwritten
+		 */
+		private boolean destroyed;
+
+		/**
+		 * Constructor copying the key into a direct buffer
+		 *
+		 * @param key Raw data key, left untouched
+		 */
+		private CachedKey(byte[] key) {
+			this.buffer = ByteBuffer.allocateDirect(key.length).put(0, key);
+		}
+
+		/**
+		 * Method to copy the key to the heap for a single operation
+		 *
+		 * @return Raw data key or {@code null} if the key is already overwritten
+		 */
+		private synchronized byte[] copy() {
+			if (destroyed)
+				return null;
+			byte[] key = new byte[buffer.capacity()];
+			buffer.get(0, key);
+			return key;
+		}
+
+		/**
+		 * Method to overwrite the key with zeros
+		 */
+		private synchronized void destroy() {
+			buffer.put(0, new byte[buffer.capacity()]);
+			destroyed = true;
+		}
+	}
+}
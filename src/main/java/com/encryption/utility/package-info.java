@@ -21,6 +21,10 @@
  * responsible for encryption and decryption related operations</li>
  * <li>{@link com.encryption.utility.CommonUtility} - Contains methods for
  * common tasks</li>
+ * <li>{@link com.encryption.utility.DataKeyCache} - Provides the data keys,
+ * optionally reused per channel for a bounded number of messages</li>
+ * <li>{@link com.encryption.utility.UnwrappedKeyCache} - Keeps the data keys
+ * recovered while decrypting</li>
  * <li>{@link com.encryption.utility.AppPropertiesInit} - Contains methods to load
  * and fetch values from configuration file</li>
  * <li>{@link com.encryption.utility.Log} - Contains methods to log the
@@ -11,8 +11,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.encryption.dto.KekHandshake;
+import com.encryption.dto.KekRequest;
 import com.encryption.exception.AppException;
+import com.encryption.services.ChannelAgreementKeyService;
 import com.encryption.services.ChannelDetailService;
+import com.encryption.services.ChannelKekService;
 import com.model.dto.Channel;
 import com.model.entity.ChannelDetails;
 
@@ -54,6 +58,16 @@ public class ChannelController {
 	 */
 	private ChannelDetailService channelDetailService;
 
+	/**
+	 * {@link ChannelKekService} interface parameter
+	 */
+	private ChannelKekService channelKekService;
+
+	/**
+	 * {@link ChannelAgreementKeyService} interface parameter
+	 */
+	private ChannelAgreementKeyService channelAgreementKeyService;
+
 	/**
 	 * Registers the channel with end point ({@code /encrypt})
 	 * 
@@ -71,6 +85,24 @@ public class ChannelController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(channelDetailService.register(channel));
 	}
 
+	/**
+	 * Registers or replaces the key agreement key of a registered channel with end
+	 * point ({@code /register/agreement-key}), open to the administrators only.
+	 * The key is kept apart from the public key of the channel, which keeps
+	 * verifying its signatures, and the data keys sent to the channel are then
+	 * wrapped with {@code ECDH-ES} against it.
+	 * 
+	 * @param channel Key agreement key of the channel (in JSON :
+	 *                {@code {"channelId": "channel id","publicKey": "EC (P-256) or
+	 *                X25519 public key value"}})
+	 * @return Registration success response in JSON
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	@PostMapping("register/agreement-key")
+	public ResponseEntity<Channel> registerAgreementKey(@Valid @RequestBody Channel channel) throws AppException {
+		return ResponseEntity.status(HttpStatus.CREATED).body(channelAgreementKeyService.register(channel));
+	}
+
 	/**
 	 * Method to get list of registered channel in the system
 	 * 
@@ -93,4 +125,26 @@ public class ChannelController {
 		return ResponseEntity.ok().body(channelDetailService.channelDetails(channelId));
 	}
 
+	/**
+	 * Establishes a new key encryption key for the channel with end point
+	 * ({@code /{channelId}/kek}), open to the user named after the channel and
+	 * to the administrators only. The request is signed with the private key of
+	 * the channel. The key is returned wrapped with the public key of the
+	 * channel, later envelopes wrap their data keys under it with
+	 * {@code AES Key Wrap} naming its id in the header. A new handshake rotates
+	 * the key.
+	 * 
+	 * @param channelId Channel id
+	 * @param request   Handshake request (in JSON :
+	 *                  {@code {"issuedAt": "ISO-8601 time", "signature":
+	 *                  "signature of channel id.issuedAt"}})
+	 * @return {@link KekHandshake} carrying the wrapped key, its id and expiry
+	 * @throws AppException Thrown when a custom exception occurs
+	 */
+	@PostMapping("/{channelId}/kek")
+	public ResponseEntity<KekHandshake> handshake(@PathVariable String channelId,
+			@Valid @RequestBody KekRequest request) throws AppException {
+		return ResponseEntity.status(HttpStatus.CREATED).body(channelKekService.handshake(channelId, request));
+	}
+
 }
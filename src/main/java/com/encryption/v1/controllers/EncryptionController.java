@@ -1,15 +1,33 @@
 package com.encryption.v1.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import com.encryption.exception.AppException;
 import com.encryption.services.EncryptionService;
+import com.encryption.utility.CommonUtility;
 import com.model.dto.Encryption;
+import com.model.enums.Codes;
+import com.utilities.property.AppProperties;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.AllArgsConstructor;
 
@@ -24,7 +42,21 @@ import lombok.AllArgsConstructor;
  * 
  * It provides end points to encrypt ({@code /enc-service/encrypt}) and decrypt
  * ({@code /enc-service/decrypt}) for {@literal POST Requests} the pay-load with
- * annotation {@code} @RequestBody}
+ * annotation {@code} @RequestBody}, a binary variant of both served when the
+ * request is sent as {@code application/octet-stream}, and their streaming
+ * counterparts
+ * ({@code /enc-service/encrypt/stream} and {@code /enc-service/decrypt/stream})
+ * for large {@code application/octet-stream} pay loads, and batch end points
+ * ({@code /enc-service/encrypt/batch} and {@code /enc-service/decrypt/batch})
+ * processing an array of items in one request
+ * 
+ * <p>
+ * The work is handed over to the bounded crypto executor and the request thread
+ * is released right away, the streaming end points reading and writing the
+ * bodies from the crypto worker for at most property 'stream.timeout.seconds'.
+ * When the executor is saturated the request is rejected with
+ * {@code 503 Service Unavailable}.
+ * </p>
  * 
  * 
  * @see <a href =
@@ -48,6 +80,11 @@ public class EncryptionController {
 	 */
 	private EncryptionService encService;
 
+	/**
+	 * Bounded {@link Executor} running the encryption and decryption operations
+	 */
+	private Executor cryptoExecutor;
+
 	/**
 	 * Encrypts the input data for end point ({@code /encrypt})
 	 * 
@@ -55,11 +92,10 @@ public class EncryptionController {
 	 *                  {@code {"data": "Plain data"}})
 	 * @return Encrypted response in JSON ({@code {"timestamp": "yyyy-MM-dd
 	 *         HH:mm:ss.SSSSSS>", "code": "code", "data": "Encrypted data"}})
-	 * @throws AppException Thrown when a custom exception occurs
 	 */
 	@PostMapping("encrypt")
-	public ResponseEntity<Encryption> encrypt(@Valid @RequestBody Encryption plainBody) throws AppException {
-		return ResponseEntity.ok().body(encService.encrypt(plainBody));
+	public CompletableFuture<ResponseEntity<Encryption>> encrypt(@Valid @RequestBody Encryption plainBody) {
+		return supply(() -> ResponseEntity.ok().body(encService.encrypt(plainBody)));
 	}
 
 	/**
@@ -69,10 +105,217 @@ public class EncryptionController {
 	 *                      {@code {"data": "Encrypted data"}})
 	 * @return Decrypted response in JSON ({@code {"timestamp": "yyyy-MM-dd
 	 *         HH:mm:ss.SSSSSS", "code": "code", "data": "Decrypted data"}})
-	 * @throws AppException Thrown when a custom exception occurs
 	 */
 	@PostMapping("decrypt")
-	public ResponseEntity<Encryption> decrypt(@Valid @RequestBody Encryption encryptedBody) throws AppException {
-		return ResponseEntity.ok().body(encService.decrypt(encryptedBody));
+	public CompletableFuture<ResponseEntity<Encryption>> decrypt(@Valid @RequestBody Encryption encryptedBody) {
+		return supply(() -> ResponseEntity.ok().body(encService.decrypt(encryptedBody)));
+	}
+
+	/**
+	 * Encrypts raw input bytes for end point ({@code /encrypt}) when the caller
+	 * negotiates {@code application/octet-stream}, returning the length-prefixed
+	 * binary envelope instead of the {@code Base64} JSON envelope
+	 * 
+	 * @param refNo     Reference number starting with the registered channel id
+	 * @param plainData Plain input data that is to be encrypted
+	 * @return Binary envelope with the encrypted data
+	 */
+	@PostMapping(value = "encrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public CompletableFuture<ResponseEntity<byte[]>> encrypt(@RequestHeader("ref-no") String refNo,
+			@RequestBody byte[] plainData) {
+		CommonUtility.setRefNo(refNo);
+		return supply(() -> ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.body(encService.encrypt(plainData, refNo)));
+	}
+
+	/**
+	 * Decrypts a binary envelope for end point ({@code /decrypt}) when the caller
+	 * negotiates {@code application/octet-stream}, returning the raw plain bytes
+	 * 
+	 * @param refNo         Reference number starting with the registered channel
+	 *                      id
+	 * @param encryptedData Binary envelope that is to be decrypted
+	 * @return Decrypted raw bytes
+	 */
+	@PostMapping(value = "decrypt", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public CompletableFuture<ResponseEntity<byte[]>> decrypt(@RequestHeader("ref-no") String refNo,
+			@RequestBody byte[] encryptedData) {
+		CommonUtility.setRefNo(refNo);
+		return supply(() -> ResponseEntity.ok().contentType(MediaType.APPLICATION_OCTET_STREAM)
+				.body(encService.decrypt(encryptedData, refNo)));
+	}
+
+	/**
+	 * Encrypts a stream of input data for end point ({@code /encrypt/stream})
+	 * 
+	 * <p>
+	 * The plain data is read from the request body and the encrypted segments are
+	 * written to the response body as they are produced, so the pay load is never
+	 * held in memory as a whole.
+	 * </p>
+	 * 
+	 * @param refNo    Reference number starting with the registered channel id
+	 * @param request  {@link HttpServletRequest} carrying the plain data
+	 * @param response {@link HttpServletResponse} to write the encrypted data to
+	 * @return {@link DeferredResult} completed once the response body is written
+	 * @throws IOException Thrown when the request or response stream cannot be
+	 *                     opened
+	 */
+	@PostMapping(value = "encrypt/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public DeferredResult<Void> encryptStream(@RequestHeader("ref-no") String refNo, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		CommonUtility.setRefNo(refNo);
+		response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		InputStream plainData = request.getInputStream();
+		OutputStream encryptedData = response.getOutputStream();
+		return stream(() -> {
+			encService.encrypt(plainData, encryptedData, refNo);
+			return null;
+		});
+	}
+
+	/**
+	 * Decrypts a stream of encrypted data for end point ({@code /decrypt/stream})
+	 * 
+	 * <p>
+	 * The encrypted segments are read from the request body and the plain data is
+	 * written to the response body as every segment is authenticated.
+	 * </p>
+	 * 
+	 * @param refNo    Reference number starting with the registered channel id
+	 * @param request  {@link HttpServletRequest} carrying the encrypted data
+	 * @param response {@link HttpServletResponse} to write the decrypted data to
+	 * @return {@link DeferredResult} completed once the response body is written
+	 * @throws IOException Thrown when the request or response stream cannot be
+	 *                     opened
+	 */
+	@PostMapping(value = "decrypt/stream", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+	public DeferredResult<Void> decryptStream(@RequestHeader("ref-no") String refNo, HttpServletRequest request,
+			HttpServletResponse response) throws IOException {
+		CommonUtility.setRefNo(refNo);
+		response.setContentType(MediaType.APPLICATION_OCTET_STREAM_VALUE);
+		InputStream encryptedData = request.getInputStream();
+		OutputStream plainData = response.getOutputStream();
+		return stream(() -> {
+			encService.decrypt(encryptedData, plainData, refNo);
+			return null;
+		});
+	}
+
+	/**
+	 * Encrypts a batch of input data for end point ({@code /encrypt/batch})
+	 * 
+	 * <p>
+	 * Every item is encrypted in parallel and reported in the order it was passed.
+	 * An item that fails is returned as an error in its place without failing the
+	 * rest of the batch.
+	 * </p>
+	 * 
+	 * @param plainBodies Plain input items that are to be encrypted (in JSON :
+	 *                    {@code [{"refNo": "refNo", "data": "Plain data"}]})
+	 * @return Encrypted items or errors in JSON
+	 */
+	@PostMapping("encrypt/batch")
+	public CompletableFuture<ResponseEntity<List<Object>>> encryptBatch(@RequestBody List<Encryption> plainBodies) {
+		return supply(() -> ResponseEntity.ok().body(encService.encryptBatch(plainBodies)));
+	}
+
+	/**
+	 * Decrypts a batch of encrypted data for end point ({@code /decrypt/batch})
+	 * 
+	 * <p>
+	 * Every item is decrypted in parallel and reported in the order it was passed.
+	 * An item that fails is returned as an error in its place without failing the
+	 * rest of the batch.
+	 * </p>
+	 * 
+	 * @param encryptedBodies Encrypted input items that are to be decrypted (in
+	 *                        JSON : {@code [{"refNo": "refNo", "data": "Encrypted
+	 *                        data"}]})
+	 * @return Decrypted items or errors in JSON
+	 */
+	@PostMapping("decrypt/batch")
+	public CompletableFuture<ResponseEntity<List<Object>>> decryptBatch(
+			@RequestBody List<Encryption> encryptedBodies) {
+		return supply(() -> ResponseEntity.ok().body(encService.decryptBatch(encryptedBodies)));
+	}
+
+	/**
+	 * Method to run an operation on the crypto executor, completing the returned
+	 * {@link CompletableFuture} with its result or its {@link AppException}
+	 * 
+	 * @param <T>       Type of the response
+	 * @param operation Operation to run
+	 * @return {@link CompletableFuture} of the response, failed with
+	 *         {@code 503 Service Unavailable} when the executor is saturated
+	 */
+	private <T> CompletableFuture<T> supply(CryptoOperation<T> operation) {
+		CompletableFuture<T> response = new CompletableFuture<>();
+		try {
+			cryptoExecutor.execute(() -> {
+				try {
+					response.complete(operation.get());
+				} catch (AppException | RuntimeException e) {
+					response.completeExceptionally(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			response.completeExceptionally(busy());
+		}
+		return response;
+	}
+
+	/**
+	 * Method to run a streaming operation on the crypto executor, the request
+	 * staying asynchronous until the operation has written the response body or
+	 * property 'stream.timeout.seconds' has elapsed
+	 * 
+	 * @param operation Operation reading the request body and writing the
+	 *                  response body
+	 * @return {@link DeferredResult} of the response, failed with
+	 *         {@code 503 Service Unavailable} when the executor is saturated
+	 */
+	private DeferredResult<Void> stream(CryptoOperation<Void> operation) {
+		DeferredResult<Void> response = new DeferredResult<>(
+				Duration.ofSeconds(AppProperties.intProperty("stream.timeout.seconds")).toMillis());
+		try {
+			cryptoExecutor.execute(() -> {
+				try {
+					response.setResult(operation.get());
+				} catch (AppException | RuntimeException e) {
+					response.setErrorResult(e);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			response.setErrorResult(busy());
+		}
+		return response;
+	}
+
+	/**
+	 * Method to build the error answered when the crypto executor is saturated
+	 * 
+	 * @return {@link AppException} with {@code 503 Service Unavailable}
+	 */
+	private static AppException busy() {
+		return AppException.getInstance("Service is busy, please retry later",
+				"All the crypto workers are busy and the queue is full", Codes.ERR01, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
+	/**
+	 * Operation run on the crypto executor
+	 * 
+	 * @param <T> Type of the response
+	 */
+	@FunctionalInterface
+	private interface CryptoOperation<T> {
+
+		/**
+		 * Method to run the operation
+		 * 
+		 * @return Response of the operation
+		 * @throws AppException Thrown when a custom exception occurs
+		 */
+		T get() throws AppException;
 	}
 }
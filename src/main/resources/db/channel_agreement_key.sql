@@ -0,0 +1,7 @@
+-- Key agreement keys of the channels (entity ChannelAgreementKey), registered apart from the channel public key.
+-- The data keys sent to a channel with a key here are wrapped with ECDH-ES, its public key only verifies signatures.
+CREATE TABLE IF NOT EXISTS channel_agreement_key (
+	channel_id VARCHAR(255) PRIMARY KEY,
+	public_key VARCHAR(1024) NOT NULL,
+	registered_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
@@ -0,0 +1,9 @@
+-- Channel changes read by the incremental channel sync of every instance (entity ChannelChange).
+-- changed_at is stamped by the data base clock so the sync watermark never depends on the clock of an instance.
+CREATE TABLE IF NOT EXISTS channel_change (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	channel_id VARCHAR(255) NOT NULL,
+	changed_at TIMESTAMP WITH TIME ZONE NOT NULL DEFAULT clock_timestamp()
+);
+
+CREATE INDEX IF NOT EXISTS idx_channel_change_changed_at ON channel_change (changed_at);
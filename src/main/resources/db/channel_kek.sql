@@ -0,0 +1,17 @@
+-- Key encryption keys established by the channels with the handshake (entity ChannelKek).
+-- requested_at is the issue time of the signed handshake request, unique per channel so a request is used once.
+-- Expired keys are purged every midnight, a purged key can no longer be used to encrypt or decrypt.
+CREATE TABLE IF NOT EXISTS channel_kek (
+	kek_id VARCHAR(32) PRIMARY KEY,
+	channel_id VARCHAR(255) NOT NULL,
+	wrapped_kek VARCHAR(1024) NOT NULL,
+	key_id VARCHAR(64) NOT NULL,
+	requested_at TIMESTAMP WITH TIME ZONE NOT NULL,
+	created_at TIMESTAMP WITH TIME ZONE NOT NULL,
+	expires_at TIMESTAMP WITH TIME ZONE NOT NULL,
+	CONSTRAINT uk_channel_kek_requested_at UNIQUE (channel_id, requested_at)
+);
+
+CREATE INDEX IF NOT EXISTS idx_channel_kek_channel_id ON channel_kek (channel_id);
+
+CREATE INDEX IF NOT EXISTS idx_channel_kek_expires_at ON channel_kek (expires_at);
@@ -0,0 +1,142 @@
+package com.encryption.crypto;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+
+import com.encryption.exception.AppException;
+
+/**
+ * The {@code EnvelopeTest} class checks the length-prefixed binary form of
+ * {@link Envelope}: an envelope survives the round trip, while a truncated,
+ * padded or oversized frame is rejected with an {@link AppException} instead
+ * of being misread.
+ *
+ * @author Kabir Akware
+ */
+class EnvelopeTest {
+
+	/**
+	 * An envelope with attributes and segments of every length prefix is parsed
+	 * back unchanged
+	 *
+	 * @throws AppException Thrown when the envelope cannot be encoded or parsed
+	 */
+	@Test
+	void binaryRoundTrip() throws AppException {
+		Envelope envelope = envelope(bytes(0xFFFF, 1), bytes(0xFF, 2), bytes(256, 3), bytes(70000, 4));
+
+		Envelope parsed = Envelope.fromBytes(envelope.toBytes());
+
+		assertEquals(envelope.header(), parsed.header());
+		assertEquals("ES256", parsed.attribute(Envelope.SIGNATURE_ALGORITHM));
+		assertEquals("DEF", parsed.attribute(Envelope.COMPRESSION));
+		assertArrayEquals(envelope.getWrappedKey(), parsed.getWrappedKey());
+		assertArrayEquals(envelope.getIv(), parsed.getIv());
+		assertArrayEquals(envelope.getSignature(), parsed.getSignature());
+		assertArrayEquals(envelope.getCipherText(), parsed.getCipherText());
+	}
+
+	/**
+	 * An envelope with empty segments, as sent for {@code mode=RSA}, is parsed
+	 * back unchanged
+	 *
+	 * @throws AppException Thrown when the envelope cannot be encoded or parsed
+	 */
+	@Test
+	void binaryRoundTripWithEmptySegments() throws AppException {
+		Envelope envelope = envelope(new byte[0], new byte[0], bytes(256, 3), bytes(32, 4));
+		envelope.attribute(Envelope.MODE, Envelope.MODE_RSA);
+
+		Envelope parsed = Envelope.fromBytes(envelope.toBytes());
+
+		assertEquals(Envelope.MODE_RSA, parsed.attribute(Envelope.MODE));
+		assertEquals(0, parsed.getWrappedKey().length);
+		assertEquals(0, parsed.getIv().length);
+		assertArrayEquals(envelope.getCipherText(), parsed.getCipherText());
+	}
+
+	/**
+	 * Every truncation of a frame is rejected as incomplete
+	 *
+	 * @throws AppException Thrown when the envelope cannot be encoded
+	 */
+	@Test
+	void truncatedFrameIsRejected() throws AppException {
+		byte[] frame = envelope(bytes(256, 1), bytes(12, 2), bytes(256, 3), bytes(100, 4)).toBytes();
+
+		for (int length = 0; length < frame.length; length++) {
+			byte[] truncated = Arrays.copyOf(frame, length);
+			AppException e = assertThrows(AppException.class, () -> Envelope.fromBytes(truncated));
+			assertEquals(HttpStatus.BAD_REQUEST, e.getStatus());
+		}
+	}
+
+	/**
+	 * Bytes after the cipher text are rejected
+	 *
+	 * @throws AppException Thrown when the envelope cannot be encoded
+	 */
+	@Test
+	void trailingDataIsRejected() throws AppException {
+		byte[] frame = envelope(bytes(256, 1), bytes(12, 2), bytes(256, 3), bytes(100, 4)).toBytes();
+
+		assertThrows(AppException.class, () -> Envelope.fromBytes(Arrays.copyOf(frame, frame.length + 1)));
+	}
+
+	/**
+	 * A segment longer than its length prefix can carry is rejected instead of
+	 * being truncated
+	 */
+	@Test
+	void oversizedSegmentIsRejected() {
+		assertThrows(AppException.class,
+				() -> envelope(bytes(0x10000, 1), bytes(12, 2), bytes(256, 3), bytes(100, 4)).toBytes());
+		assertThrows(AppException.class,
+				() -> envelope(bytes(256, 1), bytes(0x100, 2), bytes(256, 3), bytes(100, 4)).toBytes());
+		assertThrows(AppException.class,
+				() -> envelope(bytes(256, 1), bytes(12, 2), bytes(0x10000, 3), bytes(100, 4)).toBytes());
+
+		Envelope envelope = envelope(bytes(256, 1), bytes(12, 2), bytes(256, 3), bytes(100, 4));
+		envelope.attribute(Envelope.KEY_ID, "k".repeat(0x10000));
+		assertThrows(AppException.class, envelope::toBytes);
+	}
+
+	/**
+	 * Method to build an envelope with a few header attributes
+	 *
+	 * @param wrappedKey Wrapped key segment
+	 * @param iv         Iv segment
+	 * @param signature  Signature segment
+	 * @param cipherText Cipher text segment
+	 * @return {@link Envelope} with all the segments set
+	 */
+	private static Envelope envelope(byte[] wrappedKey, byte[] iv, byte[] signature, byte[] cipherText) {
+		Envelope envelope = Envelope.getInstance();
+		envelope.attribute(Envelope.SIGNATURE_ALGORITHM, "ES256");
+		envelope.attribute(Envelope.COMPRESSION, "DEF");
+		envelope.setWrappedKey(wrappedKey);
+		envelope.setIv(iv);
+		envelope.setSignature(signature);
+		envelope.setCipherText(cipherText);
+		return envelope;
+	}
+
+	/**
+	 * Method to build a segment of a given length filled with a marker byte
+	 *
+	 * @param length Length of the segment
+	 * @param marker Byte filling the segment
+	 * @return Segment bytes
+	 */
+	private static byte[] bytes(int length, int marker) {
+		byte[] bytes = new byte[length];
+		Arrays.fill(bytes, (byte) marker);
+		return bytes;
+	}
+}
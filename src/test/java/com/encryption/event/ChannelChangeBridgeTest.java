@@ -0,0 +1,200 @@
+package com.encryption.event;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.encryption.config.ApplicationInit;
+import com.encryption.entity.ChannelChange;
+import com.encryption.exception.AppException;
+import com.encryption.services.ChannelDetailService;
+import com.encryption.utility.AppPropertiesInit;
+import com.encryption.utility.CommonUtility;
+import com.model.dto.Channel;
+import com.model.entity.ChannelDetails;
+import com.model.enums.Codes;
+
+/**
+ * The {@code ChannelChangeBridgeTest} class starts two instances of the
+ * channel cache against an embedded {@code Kafka} broker and checks that a
+ * channel registered on one of them reaches the cache of the other through
+ * {@link ChannelChangeBridge}, long before the incremental channel sync would.
+ *
+ * @author Kabir Akware
+ */
+@EmbeddedKafka(partitions = 1, topics = "encryption-channel-events",
+		bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class ChannelChangeBridgeTest {
+
+	/**
+	 * Channel details of the shared data base, seen by both instances
+	 */
+	private static final Map<String, ChannelDetails> CHANNELS = new ConcurrentHashMap<>();
+
+	/**
+	 * Instance registering the channel
+	 */
+	private ConfigurableApplicationContext registering;
+
+	/**
+	 * Instance receiving the channel change
+	 */
+	private ConfigurableApplicationContext receiving;
+
+	/**
+	 * Method to start both instances and wait until their listeners are assigned
+	 * the partition of the topic, since they read from the latest offset
+	 */
+	@BeforeEach
+	void start() {
+		CHANNELS.clear();
+		this.registering = instance();
+		this.receiving = instance();
+		for (ConfigurableApplicationContext context : List.of(registering, receiving))
+			ContainerTestUtils.waitForAssignment(context.getBean(KafkaListenerEndpointRegistry.class)
+					.getListenerContainer("channelChangeBridge"), 1);
+	}
+
+	/**
+	 * Method to stop both instances
+	 */
+	@AfterEach
+	void stop() {
+		if (Objects.nonNull(receiving))
+			receiving.close();
+		if (Objects.nonNull(registering))
+			registering.close();
+	}
+
+	/**
+	 * A channel registered on one instance replaces the negative entry cached by
+	 * the other one
+	 *
+	 * @throws NoSuchAlgorithmException Thrown when no RSA key pair generator is
+	 *                                  available
+	 */
+	@Test
+	void registerOnOneInstanceUpdatesTheCacheOfTheOther() throws NoSuchAlgorithmException {
+		ApplicationInit receivingInit = receiving.getBean(ApplicationInit.class);
+		assertTrue(receivingInit.publicKey("TST").isEmpty());
+
+		KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+		generator.initialize(2048);
+		ChannelDetails channel = ChannelDetails.getInstance("TST",
+				CommonUtility.encodedString(generator.generateKeyPair().getPublic().getEncoded()));
+		CHANNELS.put(channel.getChannelId(), channel);
+		registering.publishEvent(ChannelChangeEvent.getInstance(channel));
+
+		await().atMost(Duration.ofSeconds(10)).until(() -> receivingInit.publicKey("TST").isPresent());
+	}
+
+	/**
+	 * Method to start an instance with the channel cache and the bridge only
+	 *
+	 * @return {@link ConfigurableApplicationContext} of the instance
+	 */
+	private static ConfigurableApplicationContext instance() {
+		return new SpringApplicationBuilder(Instance.class).web(WebApplicationType.NONE)
+				.properties("spring.config.name=channel-change-bridge-test",
+						"config.property.path=./src/main/resources/config.properties",
+						"config.kafka.enable-kafka=true", "eureka.client.enabled=false")
+				.run();
+	}
+
+	/**
+	 * Configuration of an instance: the properties, the channel cache, the
+	 * bridge and a {@link ChannelDetailService} reading the shared channels
+	 */
+	@SpringBootConfiguration
+	@EnableAutoConfiguration(exclude = { DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class })
+	@Import({ ApplicationInit.class, ChannelChangeBridge.class })
+	static class Instance {
+
+		@Bean
+		AppPropertiesInit appPropertiesInit() {
+			return new AppPropertiesInit("./src/main/resources/config.properties");
+		}
+
+		@Bean
+		ThreadPoolTaskExecutor channelEventExecutor() {
+			ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+			executor.setCorePoolSize(1);
+			executor.setMaxPoolSize(1);
+			executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+			return executor;
+		}
+
+		@Bean
+		ChannelDetailService channelDetailService() {
+			return new ChannelDetailService() {
+
+				@Override
+				public Channel register(Channel channel) {
+					throw new UnsupportedOperationException();
+				}
+
+				@Override
+				public List<ChannelDetails> channelDetails() {
+					return List.copyOf(CHANNELS.values());
+				}
+
+				@Override
+				public ChannelDetails channelDetails(String channelId) throws AppException {
+					ChannelDetails channel = CHANNELS.get(channelId);
+					if (Objects.isNull(channel))
+						throw AppException.getInstance("Channel id not found: " + channelId,
+								"Pass registered channel id", Codes.ERR09, HttpStatus.NOT_FOUND);
+					return channel;
+				}
+
+				@Override
+				public List<ChannelDetails> channelDetails(Collection<String> channelIds) {
+					return channelIds.stream().map(CHANNELS::get).filter(Objects::nonNull).toList();
+				}
+
+				@Override
+				public List<ChannelChange> channelChanges(Instant since) {
+					return List.of();
+				}
+
+				@Override
+				public Instant databaseTime() {
+					return Instant.now();
+				}
+
+				@Override
+				public int purgeChannelChanges(Instant before) {
+					return 0;
+				}
+			};
+		}
+	}
+}